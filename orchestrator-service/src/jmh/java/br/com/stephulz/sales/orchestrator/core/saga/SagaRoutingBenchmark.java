@@ -0,0 +1,67 @@
+package br.com.stephulz.sales.orchestrator.core.saga;
+
+import br.com.stephulz.sales.orchestrator.core.enums.EEventSource;
+import br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus;
+import br.com.stephulz.sales.orchestrator.core.enums.ETopics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.EVENT_SOURCE_INDEX;
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.SAGA_HANDLER;
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.SAGA_STATUS_INDEX;
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.TOPIC_INDEX;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SagaRoutingBenchmark {
+
+    private SagaRoutingTable routingTable;
+    private EEventSource[] sources;
+    private ESagaStatus[] statuses;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        routingTable = new SagaRoutingTable();
+        sources = Arrays.stream(SAGA_HANDLER).map(row -> (EEventSource) row[EVENT_SOURCE_INDEX]).toArray(EEventSource[]::new);
+        statuses = Arrays.stream(SAGA_HANDLER).map(row -> (ESagaStatus) row[SAGA_STATUS_INDEX]).toArray(ESagaStatus[]::new);
+    }
+
+    @Benchmark
+    public ETopics streamScan() {
+        final int route = nextRoute();
+        final EEventSource source = sources[route];
+        final ESagaStatus status = statuses[route];
+        return (ETopics) Arrays.stream(SAGA_HANDLER)
+                .filter(row -> source.equals(row[EVENT_SOURCE_INDEX]) && status.equals(row[SAGA_STATUS_INDEX]))
+                .map(row -> row[TOPIC_INDEX])
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Benchmark
+    public ETopics routingTable() {
+        final int route = nextRoute();
+        return routingTable.find(sources[route], statuses[route]);
+    }
+
+    private int nextRoute() {
+        next = next + 1 == sources.length ? 0 : next + 1;
+        return next;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.stephulz.sales.orchestrator.config.mongo;
+
+import br.com.stephulz.sales.orchestrator.core.document.SagaHistory;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.kafka.history.delta", havingValue = "true")
+public class MongoConfig {
+
+    private static final String CREATED_AT_FIELD = "createdAt";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${spring.kafka.history.ttl}")
+    private Duration historyTtl;
+
+    @PostConstruct
+    public void createIndexes() {
+        final String name = mongoTemplate.indexOps(SagaHistory.class).createIndex(new Index()
+                .on(CREATED_AT_FIELD, Sort.Direction.ASC)
+                .expire(historyTtl));
+        log.info("Index {} ensured on collection {}", name, mongoTemplate.getCollectionName(SagaHistory.class));
+    }
+}
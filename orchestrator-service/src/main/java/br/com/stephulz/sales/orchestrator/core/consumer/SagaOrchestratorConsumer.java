@@ -2,56 +2,103 @@ package br.com.stephulz.sales.orchestrator.core.consumer;
 
 import br.com.stephulz.sales.orchestrator.core.dto.Event;
 import br.com.stephulz.sales.orchestrator.core.service.OrchestratorService;
-import br.com.stephulz.sales.orchestrator.core.utils.JsonUtil;
+import br.com.stephulz.sales.orchestrator.core.utils.EventCodec;
+import br.com.stephulz.sales.orchestrator.core.utils.EventHeaders;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
 @Slf4j
 @Component
 @AllArgsConstructor
 public class SagaOrchestratorConsumer {
-    private final JsonUtil jsonUtil;
+    private final EventCodec eventCodec;
     private final OrchestratorService orchestratorService;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.start-saga}"
     )
-    public void consumeStartSagaEvent(String payload) {
-        log.info("Receiving event {} from start-saga topic", payload);
-        final Event event = jsonUtil.toEvent(payload);
-        orchestratorService.startSaga(event);
+    public void consumeStartSagaEvent(List<ConsumerRecord<String, byte[]>> records) {
+        log.info("Receiving {} events from start-saga topic", records.size());
+        consumeBatch(records, record -> {
+            final Event event = eventCodec.decode(record.value());
+            log.debug("Receiving event {} from start-saga topic", event);
+            return orchestratorService.startSaga(event);
+        });
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.orchestrator}"
     )
-    public void consumeOrchestratorEvent(String payload) {
-        log.info("Receiving event {} from orchestrator topic", payload);
-        final Event event = jsonUtil.toEvent(payload);
-        orchestratorService.continueSaga(event);
+    public void consumeOrchestratorEvent(List<ConsumerRecord<String, byte[]>> records) {
+        log.info("Receiving {} events from orchestrator topic", records.size());
+        consumeBatch(records, record -> {
+            final byte[] payload = record.value();
+            log.debug("Receiving event with key {} from orchestrator topic", record.key());
+            return EventHeaders.toRouting(record.headers())
+                    .map(routing -> orchestratorService.continueSaga(routing, payload, record.headers()))
+                    .orElseGet(() -> orchestratorService.continueSaga(eventCodec.decode(payload)));
+        });
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.finish-success}"
     )
-    public void consumeFinishSuccessEvent(String payload) {
-        log.info("Receiving event {} from finish-success topic", payload);
-        final Event event = jsonUtil.toEvent(payload);
-        orchestratorService.finishSagaSuccess(event);
+    public void consumeFinishSuccessEvent(List<ConsumerRecord<String, byte[]>> records) {
+        log.info("Receiving {} events from finish-success topic", records.size());
+        consumeBatch(records, record -> {
+            final Event event = eventCodec.decode(record.value());
+            log.debug("Receiving event {} from finish-success topic", event);
+            return orchestratorService.finishSagaSuccess(event);
+        });
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.finish-fail}"
     )
-    public void consumeFinishFailEvent(String payload) {
-        log.info("Receiving event {} from finish-fail topic", payload);
-        final Event event = jsonUtil.toEvent(payload);
-        orchestratorService.finishSagaFail(event);
+    public void consumeFinishFailEvent(List<ConsumerRecord<String, byte[]>> records) {
+        log.info("Receiving {} events from finish-fail topic", records.size());
+        consumeBatch(records, record -> {
+            final Event event = eventCodec.decode(record.value());
+            log.debug("Receiving event {} from finish-fail topic", event);
+            return orchestratorService.finishSagaFail(event);
+        });
+    }
+
+    private void consumeBatch(List<ConsumerRecord<String, byte[]>> records,
+                              Function<ConsumerRecord<String, byte[]>, CompletableFuture<SendResult<String, byte[]>>> handler) {
+        final List<CompletableFuture<SendResult<String, byte[]>>> deliveries = new ArrayList<>(records.size());
+        for (int index = 0; index < records.size(); index++) {
+            try {
+                deliveries.add(handler.apply(records.get(index)));
+            } catch (Exception ex) {
+                awaitDeliveries(deliveries);
+                throw new BatchListenerFailedException(ex.getMessage(), ex, index);
+            }
+        }
+        awaitDeliveries(deliveries);
+    }
+
+    private void awaitDeliveries(List<CompletableFuture<SendResult<String, byte[]>>> deliveries) {
+        for (int index = 0; index < deliveries.size(); index++) {
+            try {
+                deliveries.get(index).join();
+            } catch (Exception ex) {
+                throw new BatchListenerFailedException(ex.getMessage(), ex, index);
+            }
+        }
     }
 }
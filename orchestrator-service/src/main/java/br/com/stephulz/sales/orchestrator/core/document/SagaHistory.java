@@ -0,0 +1,24 @@
+package br.com.stephulz.sales.orchestrator.core.document;
+
+import br.com.stephulz.sales.orchestrator.core.dto.History;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "saga_history")
+public class SagaHistory {
+    @Id
+    private String transactionId;
+    private List<History> entries;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,7 @@
+package br.com.stephulz.sales.orchestrator.core.dto;
+
+import br.com.stephulz.sales.orchestrator.core.enums.EEventSource;
+import br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus;
+
+public record EventRouting(EEventSource source, ESagaStatus status, String transactionId, String orderId) {
+}
@@ -2,21 +2,22 @@ package br.com.stephulz.sales.orchestrator.core.producer;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @AllArgsConstructor
 public class SagaOrchestratorProducer {
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaSender kafkaSender;
 
-    public void sendEvent(String payload, String topic) {
-        try {
-            log.info("Sending event to topic {} with data {}", topic, payload);
-            kafkaTemplate.send(topic, payload);
-        } catch (Exception ex) {
-            log.error("Error {} with cause {} when trying to send data to topic {} with data {}", ex.getMessage(), ex.getCause(), topic, payload);
-        }
+    public CompletableFuture<SendResult<String, byte[]>> sendEvent(byte[] payload, String topic, String key,
+                                                                   Iterable<Header> headers) {
+        log.debug("Sending event to topic {} with key {}", topic, key);
+        return kafkaSender.send(new ProducerRecord<>(topic, null, key, payload, headers));
     }
 }
@@ -2,53 +2,50 @@ package br.com.stephulz.sales.orchestrator.core.saga;
 
 import br.com.stephulz.sales.orchestrator.config.exception.ValidationException;
 import br.com.stephulz.sales.orchestrator.core.dto.Event;
+import br.com.stephulz.sales.orchestrator.core.dto.EventRouting;
+import br.com.stephulz.sales.orchestrator.core.enums.EEventSource;
+import br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus;
 import br.com.stephulz.sales.orchestrator.core.enums.ETopics;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
 
-import java.util.Arrays;
-
-import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.EVENT_SOURCE_INDEX;
-import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.SAGA_HANDLER;
-import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.SAGA_STATUS_INDEX;
-import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.TOPIC_INDEX;
-
 @Slf4j
 @Component
 @AllArgsConstructor
 public class SagaExecutionController {
 
     private static final String SAGA_LOG_ID = "ORDER ID: %s, | TRANSACTION ID: %s | EVENT ID: %s";
+    private static final String SAGA_ROUTING_LOG_ID = "ORDER ID: %s, | TRANSACTION ID: %s";
+
+    private final SagaRoutingTable sagaRoutingTable;
 
     public ETopics getNextTopic(Event event) {
-        if (ObjectUtils.isEmpty(event.getStatus()) || ObjectUtils.isEmpty(event.getStatus())) {
-            throw new ValidationException("Source and status must be informed.");
-        }
-        var topic = findTopicBySourceAndStatus(event);
-        logCurrentSaga(event, topic);
+        var topic = findTopicBySourceAndStatus(event.getSource(), event.getStatus());
+        logCurrentSaga(event.getSource(), event.getStatus(), topic, createSagaId(event));
         return topic;
     }
 
-    private ETopics findTopicBySourceAndStatus(Event event) {
-        return (ETopics) (Arrays.stream(SAGA_HANDLER)
-                .filter(row -> isEventSourceAndStatusValid(event, row))
-                .map(i -> i[TOPIC_INDEX])
-                .findFirst()
-                .orElseThrow(() -> new ValidationException("Topic not found")));
+    public ETopics getNextTopic(EventRouting routing) {
+        var topic = findTopicBySourceAndStatus(routing.source(), routing.status());
+        logCurrentSaga(routing.source(), routing.status(), topic, createSagaId(routing));
+        return topic;
     }
 
-    private boolean isEventSourceAndStatusValid(Event event, Object[] row) {
-        var source = row[EVENT_SOURCE_INDEX];
-        var status = row[SAGA_STATUS_INDEX];
-        return event.getSource().equals(source) && event.getStatus().equals(status);
+    private ETopics findTopicBySourceAndStatus(EEventSource source, ESagaStatus status) {
+        if (ObjectUtils.isEmpty(source) || ObjectUtils.isEmpty(status)) {
+            throw new ValidationException("Source and status must be informed.");
+        }
+        var topic = sagaRoutingTable.find(source, status);
+        if (topic == null) {
+            throw new ValidationException("Topic not found");
+        }
+        return topic;
     }
 
-    private void logCurrentSaga(Event event, ETopics topic) {
-        var sagaId = createSagaId(event);
-        var source = event.getSource();
-        switch (event.getStatus()) {
+    private void logCurrentSaga(EEventSource source, ESagaStatus status, ETopics topic, String sagaId) {
+        switch (status) {
             case SUCCESS -> log.info("### CURRENT SAGA: {} | SUCCESS | NEXT TOPIC: {} | {}",
                     source, topic, sagaId);
             case ROLLBACK_PENDING ->
@@ -62,4 +59,8 @@ public class SagaExecutionController {
     private String createSagaId(Event event) {
         return String.format(SAGA_LOG_ID, event.getPayload().getId(), event.getTransactionId(), event.getId());
     }
+
+    private String createSagaId(EventRouting routing) {
+        return String.format(SAGA_ROUTING_LOG_ID, routing.orderId(), routing.transactionId());
+    }
 }
@@ -0,0 +1,109 @@
+package br.com.stephulz.sales.orchestrator.core.saga;
+
+import br.com.stephulz.sales.orchestrator.core.document.SagaHistory;
+import br.com.stephulz.sales.orchestrator.core.dto.Event;
+import br.com.stephulz.sales.orchestrator.core.dto.History;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static br.com.stephulz.sales.orchestrator.core.enums.EEventSource.ORCHESTRATOR;
+
+@Slf4j
+@Component
+public class SagaHistoryStore {
+
+    private static final String ID_FIELD = "_id";
+    private static final String ENTRIES_FIELD = "entries";
+    private static final String CREATED_AT_FIELD = "createdAt";
+    private static final String FALLBACK_METRIC = "saga.history.fallback";
+    private static final String INCOMPLETE_METRIC = "saga.history.incomplete";
+
+    private final boolean enabled;
+    private final MongoTemplate mongoTemplate;
+    private final Counter fallbacks;
+    private final Counter incomplete;
+
+    public SagaHistoryStore(@Value("${spring.kafka.history.delta}") boolean enabled,
+                            MongoTemplate mongoTemplate,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.mongoTemplate = mongoTemplate;
+        this.fallbacks = meterRegistry.counter(FALLBACK_METRIC);
+        this.incomplete = meterRegistry.counter(INCOMPLETE_METRIC);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void record(Event event) {
+        if (!enabled || event == null) {
+            return;
+        }
+        if (!ObjectUtils.isEmpty(event.getTransactionId()) && !ObjectUtils.isEmpty(event.getEventHistory())) {
+            try {
+                mongoTemplate.upsert(
+                        byTransactionId(event.getTransactionId()),
+                        new Update()
+                                .addToSet(ENTRIES_FIELD).each(event.getEventHistory().toArray())
+                                .setOnInsert(CREATED_AT_FIELD, LocalDateTime.now()),
+                        SagaHistory.class);
+            } catch (Exception ex) {
+                fallbacks.increment();
+                log.error("Could not store history for transaction {}, forwarding the full payload instead",
+                        event.getTransactionId(), ex);
+                return;
+            }
+        }
+        event.setEventHistory(null);
+    }
+
+    public void restore(Event event) {
+        if (!enabled) {
+            return;
+        }
+        final Set<History> history = new LinkedHashSet<>(remove(event.getTransactionId()));
+        if (!ObjectUtils.isEmpty(event.getEventHistory())) {
+            history.addAll(event.getEventHistory());
+        }
+        event.setEventHistory(new ArrayList<>(history));
+        if (history.isEmpty() || !ORCHESTRATOR.equals(history.iterator().next().getSource())) {
+            incomplete.increment();
+            log.warn("History for transaction {} is missing its saga start, {} entries restored",
+                    event.getTransactionId(), history.size());
+        }
+    }
+
+    private List<History> remove(String transactionId) {
+        if (ObjectUtils.isEmpty(transactionId)) {
+            return List.of();
+        }
+        try {
+            return Optional.ofNullable(mongoTemplate.findAndRemove(byTransactionId(transactionId), SagaHistory.class))
+                    .map(SagaHistory::getEntries)
+                    .orElseGet(List::of);
+        } catch (Exception ex) {
+            log.error("Could not load stored history for transaction {}", transactionId, ex);
+            return List.of();
+        }
+    }
+
+    private Query byTransactionId(String transactionId) {
+        return Query.query(Criteria.where(ID_FIELD).is(transactionId));
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.stephulz.sales.orchestrator.core.saga;
+
+import br.com.stephulz.sales.orchestrator.core.enums.EEventSource;
+import br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus;
+import br.com.stephulz.sales.orchestrator.core.enums.ETopics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static br.com.stephulz.sales.orchestrator.core.enums.EEventSource.ORCHESTRATOR;
+import static br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.EVENT_SOURCE_INDEX;
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.SAGA_HANDLER;
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.SAGA_STATUS_INDEX;
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.TOPIC_INDEX;
+
+@Slf4j
+@Component
+public final class SagaRoutingTable {
+
+    private final Map<EEventSource, Map<ESagaStatus, ETopics>> routes;
+
+    public SagaRoutingTable() {
+        this.routes = compile(SAGA_HANDLER);
+        validateCompleteness();
+        log.info("Saga routing table compiled with {} routes", SAGA_HANDLER.length);
+    }
+
+    public ETopics find(EEventSource source, ESagaStatus status) {
+        var statusRoutes = routes.get(source);
+        return statusRoutes == null ? null : statusRoutes.get(status);
+    }
+
+    private static Map<EEventSource, Map<ESagaStatus, ETopics>> compile(Object[][] sagaHandler) {
+        final Map<EEventSource, Map<ESagaStatus, ETopics>> compiled = new EnumMap<>(EEventSource.class);
+        for (Object[] row : sagaHandler) {
+            var source = (EEventSource) row[EVENT_SOURCE_INDEX];
+            var status = (ESagaStatus) row[SAGA_STATUS_INDEX];
+            var topic = (ETopics) row[TOPIC_INDEX];
+            var previous = compiled
+                    .computeIfAbsent(source, key -> new EnumMap<>(ESagaStatus.class))
+                    .put(status, topic);
+            if (previous != null && previous != topic) {
+                throw new IllegalStateException(String.format(
+                        "Conflicting saga routes for %s | %s: %s and %s", source, status, previous, topic));
+            }
+        }
+        return compiled;
+    }
+
+    private void validateCompleteness() {
+        for (EEventSource source : EEventSource.values()) {
+            for (ESagaStatus status : ESagaStatus.values()) {
+                if (isRouteRequired(source, status) && find(source, status) == null) {
+                    throw new IllegalStateException(String.format(
+                            "Missing saga route for %s | %s", source, status));
+                }
+            }
+        }
+    }
+
+    private static boolean isRouteRequired(EEventSource source, ESagaStatus status) {
+        return !(ORCHESTRATOR.equals(source) && ROLLBACK_PENDING.equals(status));
+    }
+}
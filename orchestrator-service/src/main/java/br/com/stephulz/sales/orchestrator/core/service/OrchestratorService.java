@@ -1,16 +1,22 @@
 package br.com.stephulz.sales.orchestrator.core.service;
 
 import br.com.stephulz.sales.orchestrator.core.dto.Event;
+import br.com.stephulz.sales.orchestrator.core.dto.EventRouting;
 import br.com.stephulz.sales.orchestrator.core.dto.History;
 import br.com.stephulz.sales.orchestrator.core.enums.ETopics;
 import br.com.stephulz.sales.orchestrator.core.producer.SagaOrchestratorProducer;
 import br.com.stephulz.sales.orchestrator.core.saga.SagaExecutionController;
-import br.com.stephulz.sales.orchestrator.core.utils.JsonUtil;
+import br.com.stephulz.sales.orchestrator.core.saga.SagaHistoryStore;
+import br.com.stephulz.sales.orchestrator.core.utils.EventCodec;
+import br.com.stephulz.sales.orchestrator.core.utils.EventHeaders;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 import static br.com.stephulz.sales.orchestrator.core.enums.EEventSource.ORCHESTRATOR;
 import static br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus.FAIL;
@@ -22,39 +28,57 @@ import static br.com.stephulz.sales.orchestrator.core.enums.ETopics.NOTIFY_ENDIN
 @AllArgsConstructor
 public class OrchestratorService {
 
-    private final JsonUtil jsonUtil;
+    private final EventCodec eventCodec;
     private final SagaOrchestratorProducer producer;
     private final SagaExecutionController sagaExecutionController;
+    private final SagaHistoryStore sagaHistoryStore;
 
-    public void startSaga(Event event) {
+    public CompletableFuture<SendResult<String, byte[]>> startSaga(Event event) {
         event.setSource(ORCHESTRATOR);
         event.setStatus(SUCCESS);
         var topic = getTopic(event);
         log.info("SAGA STARTED!");
         addHistory(event, "Saga started!");
-        sendToProducerWithTopic(event, topic);
+        sagaHistoryStore.record(event);
+        return sendToProducerWithTopic(event, topic);
     }
 
-    public void continueSaga(Event event) {
+    public CompletableFuture<SendResult<String, byte[]>> continueSaga(Event event) {
         var topic = getTopic(event);
         log.info("SAGA CONTINUING FOR EVENT {}", event.getId());
-        sendToProducerWithTopic(event, topic);
+        sagaHistoryStore.record(event);
+        return sendToProducerWithTopic(event, topic);
     }
 
-    public void finishSagaSuccess(Event event) {
+    public CompletableFuture<SendResult<String, byte[]>> continueSaga(EventRouting routing, byte[] payload, Headers headers) {
+        var topic = sagaExecutionController.getNextTopic(routing);
+        log.info("SAGA CONTINUING FOR TRANSACTION {}", routing.transactionId());
+        if (sagaHistoryStore.isEnabled()) {
+            final Event event = eventCodec.decode(payload);
+            sagaHistoryStore.record(event);
+            return producer.sendEvent(eventCodec.encode(event), topic.getTopic(), routing.transactionId(), headers);
+        }
+        return producer.sendEvent(payload, topic.getTopic(), routing.transactionId(), headers);
+    }
+
+    public CompletableFuture<SendResult<String, byte[]>> finishSagaSuccess(Event event) {
         event.setSource(ORCHESTRATOR);
         event.setStatus(SUCCESS);
         log.info("SAGA FINISHED SUCCESSFULLY FOR EVENT {}", event.getId());
+        sagaHistoryStore.record(event);
         addHistory(event, "Saga finished successfully!");
-        notifyFinishedSaga(event);
+        sagaHistoryStore.restore(event);
+        return notifyFinishedSaga(event);
     }
 
-    public void finishSagaFail(Event event) {
+    public CompletableFuture<SendResult<String, byte[]>> finishSagaFail(Event event) {
         event.setSource(ORCHESTRATOR);
         event.setStatus(FAIL);
         log.info("SAGA FINISHED WITH ERRORS FOR EVENT {}", event.getId());
+        sagaHistoryStore.record(event);
         addHistory(event, "Saga finished with errors!");
-        notifyFinishedSaga(event);
+        sagaHistoryStore.restore(event);
+        return notifyFinishedSaga(event);
     }
 
     private ETopics getTopic(Event event) {
@@ -72,11 +96,11 @@ public class OrchestratorService {
         event.addToHistory(history);
     }
 
-    private void sendToProducerWithTopic(Event event, ETopics topic) {
-        producer.sendEvent(jsonUtil.toJson(event), topic.getTopic());
+    private CompletableFuture<SendResult<String, byte[]>> sendToProducerWithTopic(Event event, ETopics topic) {
+        return producer.sendEvent(eventCodec.encode(event), topic.getTopic(), event.getTransactionId(), EventHeaders.from(event));
     }
 
-    private void notifyFinishedSaga(Event event) {
-        producer.sendEvent(jsonUtil.toJson(event), NOTIFY_ENDING.getTopic());
+    private CompletableFuture<SendResult<String, byte[]>> notifyFinishedSaga(Event event) {
+        return producer.sendEvent(eventCodec.encode(event), NOTIFY_ENDING.getTopic(), event.getTransactionId(), EventHeaders.from(event));
     }
 }
@@ -0,0 +1,67 @@
+package br.com.stephulz.sales.orchestrator.core.utils;
+
+import br.com.stephulz.sales.orchestrator.core.dto.Event;
+import br.com.stephulz.sales.orchestrator.core.dto.EventRouting;
+import br.com.stephulz.sales.orchestrator.core.enums.EEventSource;
+import br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.util.ObjectUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public final class EventHeaders {
+
+    public static final String SOURCE = "source";
+    public static final String STATUS = "status";
+    public static final String TRANSACTION_ID = "transactionId";
+    public static final String ORDER_ID = "orderId";
+
+    private EventHeaders() {
+
+    }
+
+    public static List<Header> from(Event event) {
+        final List<Header> headers = new ArrayList<>();
+        addHeader(headers, SOURCE, event.getSource());
+        addHeader(headers, STATUS, event.getStatus());
+        addHeader(headers, TRANSACTION_ID, event.getTransactionId());
+        addHeader(headers, ORDER_ID, event.getOrderId());
+        return headers;
+    }
+
+    public static Optional<EventRouting> toRouting(Headers headers) {
+        try {
+            var source = read(headers, SOURCE);
+            var status = read(headers, STATUS);
+            if (ObjectUtils.isEmpty(source) || ObjectUtils.isEmpty(status)) {
+                return Optional.empty();
+            }
+            return Optional.of(new EventRouting(
+                    EEventSource.valueOf(source),
+                    ESagaStatus.valueOf(status),
+                    read(headers, TRANSACTION_ID),
+                    read(headers, ORDER_ID)
+            ));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static String read(Headers headers, String name) {
+        var header = headers.lastHeader(name);
+        return header == null || header.value() == null
+                ? null
+                : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private static void addHeader(List<Header> headers, String name, Object value) {
+        if (!ObjectUtils.isEmpty(value)) {
+            headers.add(new RecordHeader(name, value.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.stephulz.sales.orchestrator.core.consumer;
+
+import br.com.stephulz.sales.orchestrator.OrchestratorServiceApplication;
+import br.com.stephulz.sales.orchestrator.config.jackson.JacksonConfig;
+import br.com.stephulz.sales.orchestrator.core.dto.Event;
+import br.com.stephulz.sales.orchestrator.core.dto.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static br.com.stephulz.sales.orchestrator.core.enums.ETopics.PRODUCT_VALIDATION_SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@EmbeddedKafka(brokerProperties = {
+        "transaction.state.log.replication.factor=1",
+        "transaction.state.log.min.isr=1"
+})
+class SagaTransactionThroughputBenchmark {
+
+    private static final int SAGAS = 5_000;
+    private static final List<Integer> BATCH_SIZES = List.of(1, 10, 50, 100, 500);
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    void measureSagaThroughputByTransactionBatchSize(EmbeddedKafkaBroker broker) throws Exception {
+        final StringBuilder report = new StringBuilder(String.format("%n%-12s %-12s %12s %14s%n",
+                "transaction", "batch-size", "elapsed-ms", "sagas/second"));
+        run(broker, "warmup-", false, 500);
+        report.append(run(broker, "plain-", false, 500));
+        for (int batchSize : BATCH_SIZES) {
+            report.append(run(broker, "tx-", true, batchSize));
+        }
+        System.out.println(report);
+    }
+
+    private String run(EmbeddedKafkaBroker broker, String label, boolean transactional, int batchSize) throws Exception {
+        final String runId = label + batchSize;
+        final String startTopic = "start-saga-" + runId;
+        try (ConfigurableApplicationContext context = orchestrator(broker, runId, startTopic, transactional, batchSize);
+             Consumer<String, byte[]> output = outputConsumer(broker, runId)) {
+            context.getBean(KafkaListenerEndpointRegistry.class).getListenerContainers()
+                    .forEach(this::awaitAssignment);
+            output.subscribe(List.of(PRODUCT_VALIDATION_SUCCESS.getTopic()));
+            awaitAssignment(output);
+
+            final long start = System.nanoTime();
+            produce(broker, startTopic, runId);
+            int received = 0;
+            final long deadline = start + TimeUnit.MINUTES.toNanos(5);
+            while (received < SAGAS && System.nanoTime() < deadline) {
+                for (ConsumerRecord<String, byte[]> record : output.poll(Duration.ofMillis(100))) {
+                    if (record.key().startsWith(runId + "-")) {
+                        received++;
+                    }
+                }
+            }
+            final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertEquals(SAGAS, received, "timed out in run " + runId);
+            return String.format("%-12s %-12d %12d %14.0f%n",
+                    transactional, batchSize, elapsedMillis, SAGAS * 1000.0 / elapsedMillis);
+        }
+    }
+
+    private ConfigurableApplicationContext orchestrator(EmbeddedKafkaBroker broker, String runId, String startTopic,
+                                                        boolean transactional, int batchSize) {
+        return new SpringApplicationBuilder(OrchestratorServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                        "--spring.kafka.topic.start-saga=" + startTopic,
+                        "--spring.kafka.consumer.group-id=orchestrator-" + runId,
+                        "--spring.kafka.consumer.auto-offset-reset=earliest",
+                        "--spring.kafka.consumer.max-poll-records=" + batchSize,
+                        "--spring.kafka.transaction.enabled=" + transactional,
+                        "--spring.kafka.transaction.id-prefix=orchestrator-" + runId + "-",
+                        "--logging.level.br.com.stephulz.sales=WARN");
+    }
+
+    private Consumer<String, byte[]> outputConsumer(EmbeddedKafkaBroker broker, String runId) {
+        return new DefaultKafkaConsumerFactory<String, byte[]>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ConsumerConfig.GROUP_ID_CONFIG, "benchmark-" + runId,
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed",
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1000,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class))
+                .createConsumer();
+    }
+
+    private void awaitAssignment(MessageListenerContainer container) {
+        while (container.getAssignedPartitions() == null || container.getAssignedPartitions().isEmpty()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitAssignment(Consumer<String, byte[]> consumer) {
+        while (consumer.assignment().isEmpty()) {
+            consumer.poll(Duration.ofMillis(100));
+        }
+    }
+
+    private void produce(EmbeddedKafkaBroker broker, String topic, String runId) throws Exception {
+        try (KafkaProducer<String, byte[]> producer = new KafkaProducer<>(Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.LINGER_MS_CONFIG, 5,
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class))) {
+            for (int saga = 0; saga < SAGAS; saga++) {
+                final String transactionId = runId + "-" + saga;
+                producer.send(new ProducerRecord<>(topic, transactionId, objectMapper.writeValueAsBytes(event(transactionId))));
+            }
+            producer.flush();
+        }
+    }
+
+    private Event event(String transactionId) {
+        final LocalDateTime now = LocalDateTime.now();
+        return Event.builder()
+                .id(transactionId)
+                .transactionId(transactionId)
+                .orderId(transactionId)
+                .payload(Order.builder().id(transactionId).transactionId(transactionId).createdAt(now).build())
+                .createdAt(now)
+                .build();
+    }
+}
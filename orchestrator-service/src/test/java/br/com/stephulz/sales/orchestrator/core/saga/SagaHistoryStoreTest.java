@@ -0,0 +1,103 @@
+package br.com.stephulz.sales.orchestrator.core.saga;
+
+import br.com.stephulz.sales.orchestrator.core.document.SagaHistory;
+import br.com.stephulz.sales.orchestrator.core.dto.Event;
+import br.com.stephulz.sales.orchestrator.core.dto.History;
+import br.com.stephulz.sales.orchestrator.core.enums.EEventSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.com.stephulz.sales.orchestrator.core.enums.EEventSource.ORCHESTRATOR;
+import static br.com.stephulz.sales.orchestrator.core.enums.EEventSource.PAYMENT_SERVICE;
+import static br.com.stephulz.sales.orchestrator.core.enums.EEventSource.PRODUCT_VALIDATION_SERVICE;
+import static br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SagaHistoryStoreTest {
+
+    private static final String TRANSACTION_ID = "transaction";
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private final History started = history(ORCHESTRATOR, "started");
+    private final History validated = history(PRODUCT_VALIDATION_SERVICE, "validated");
+    private final History paid = history(PAYMENT_SERVICE, "paid");
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SagaHistoryStore store = new SagaHistoryStore(true, mongoTemplate, meterRegistry);
+
+    @Test
+    void shouldStoreAndStripHistoryWhenRecording() {
+        final Event event = event(started);
+
+        store.record(event);
+
+        verify(mongoTemplate).upsert(any(Query.class), any(Update.class), eq(SagaHistory.class));
+        assertNull(event.getEventHistory());
+    }
+
+    @Test
+    void shouldForwardFullHistoryWhenStoreIsUnavailable() {
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(SagaHistory.class)))
+                .thenThrow(new DataAccessResourceFailureException("mongo down"));
+        final Event event = event(started, validated);
+
+        store.record(event);
+
+        assertEquals(List.of(started, validated), event.getEventHistory());
+        assertEquals(1, meterRegistry.counter("saga.history.fallback").count());
+    }
+
+    @Test
+    void shouldRestoreStoredHistoryAndDropRedeliveredEntries() {
+        stored(started, validated, paid);
+        final History finished = history(ORCHESTRATOR, "finished");
+        final Event event = event(paid, finished);
+
+        store.restore(event);
+
+        assertEquals(List.of(started, validated, paid, finished), event.getEventHistory());
+        assertEquals(0, meterRegistry.counter("saga.history.incomplete").count());
+    }
+
+    @Test
+    void shouldFlagHistoryMissingItsSagaStart() {
+        stored(validated, paid);
+        final Event event = event(history(ORCHESTRATOR, "finished"));
+
+        store.restore(event);
+
+        assertEquals(3, event.getEventHistory().size());
+        assertEquals(1, meterRegistry.counter("saga.history.incomplete").count());
+    }
+
+    private void stored(History... entries) {
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(SagaHistory.class)))
+                .thenReturn(SagaHistory.builder().transactionId(TRANSACTION_ID).entries(List.of(entries)).build());
+    }
+
+    private static History history(EEventSource source, String message) {
+        return History.builder().source(source).status(SUCCESS).message(message).createdAt(NOW).build();
+    }
+
+    private Event event(History... history) {
+        return Event.builder()
+                .transactionId(TRANSACTION_ID)
+                .eventHistory(new ArrayList<>(List.of(history)))
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.stephulz.sales.orchestrator.core.saga;
+
+import br.com.stephulz.sales.orchestrator.core.enums.EEventSource;
+import br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus;
+import br.com.stephulz.sales.orchestrator.core.enums.ETopics;
+import org.junit.jupiter.api.Test;
+
+import static br.com.stephulz.sales.orchestrator.core.enums.EEventSource.INVENTORY_SERVICE;
+import static br.com.stephulz.sales.orchestrator.core.enums.EEventSource.ORCHESTRATOR;
+import static br.com.stephulz.sales.orchestrator.core.enums.EEventSource.PAYMENT_SERVICE;
+import static br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus.FAIL;
+import static br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus.ROLLBACK_PENDING;
+import static br.com.stephulz.sales.orchestrator.core.enums.ESagaStatus.SUCCESS;
+import static br.com.stephulz.sales.orchestrator.core.enums.ETopics.FINISH_SUCCESS;
+import static br.com.stephulz.sales.orchestrator.core.enums.ETopics.PAYMENT_FAIL;
+import static br.com.stephulz.sales.orchestrator.core.enums.ETopics.PRODUCT_VALIDATION_SUCCESS;
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.EVENT_SOURCE_INDEX;
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.SAGA_HANDLER;
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.SAGA_STATUS_INDEX;
+import static br.com.stephulz.sales.orchestrator.core.saga.SagaHandler.TOPIC_INDEX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SagaRoutingTableTest {
+
+    private final SagaRoutingTable routingTable = new SagaRoutingTable();
+
+    @Test
+    void shouldResolveEveryHandlerRow() {
+        for (Object[] row : SAGA_HANDLER) {
+            assertEquals(row[TOPIC_INDEX],
+                    routingTable.find((EEventSource) row[EVENT_SOURCE_INDEX], (ESagaStatus) row[SAGA_STATUS_INDEX]));
+        }
+    }
+
+    @Test
+    void shouldHaveRouteForEveryRequiredSourceAndStatus() {
+        for (EEventSource source : EEventSource.values()) {
+            for (ESagaStatus status : ESagaStatus.values()) {
+                if (ORCHESTRATOR.equals(source) && ROLLBACK_PENDING.equals(status)) {
+                    assertNull(routingTable.find(source, status));
+                } else {
+                    assertNotNull(routingTable.find(source, status), source + " | " + status);
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldRouteKnownTransitions() {
+        assertEquals(PRODUCT_VALIDATION_SUCCESS, routingTable.find(ORCHESTRATOR, SUCCESS));
+        assertEquals(FINISH_SUCCESS, routingTable.find(INVENTORY_SERVICE, SUCCESS));
+        assertEquals(PAYMENT_FAIL, routingTable.find(PAYMENT_SERVICE, ROLLBACK_PENDING));
+        assertEquals(ETopics.PRODUCT_VALIDATION_FAIL, routingTable.find(PAYMENT_SERVICE, FAIL));
+    }
+}
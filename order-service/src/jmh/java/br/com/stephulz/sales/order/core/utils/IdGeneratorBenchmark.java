@@ -0,0 +1,48 @@
+package br.com.microservices.orchestrated.authservice.core.utils;
+
+import br.com.microservices.orchestrated.authservice.core.enums.EIdStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdGeneratorBenchmark {
+
+    @Param({"LEGACY", "ULID"})
+    private EIdStrategy strategy;
+
+    private IdGenerator idGenerator;
+
+    @Setup
+    public void setUp() {
+        idGenerator = new IdGenerator(strategy);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String transactionId() {
+        return idGenerator.nextTransactionId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String contendedTransactionId() {
+        return idGenerator.nextTransactionId();
+    }
+}
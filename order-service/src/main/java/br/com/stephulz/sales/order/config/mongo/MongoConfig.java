@@ -0,0 +1,70 @@
+package br.com.microservices.orchestrated.authservice.config.mongo;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import br.com.microservices.orchestrated.authservice.core.document.Order;
+import br.com.microservices.orchestrated.authservice.core.document.OrderStatus;
+import br.com.microservices.orchestrated.authservice.core.document.OrderStreamEntry;
+import br.com.microservices.orchestrated.authservice.core.service.EventArchiveService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MongoConfig {
+
+    private static final String ID_FIELD = "_id";
+    private static final String ORDER_ID_FIELD = "orderId";
+    private static final String TRANSACTION_ID_FIELD = "transactionId";
+    private static final String CREATED_AT_FIELD = "createdAt";
+    private static final String OUTBOX_STATUS_FIELD = "outboxStatus";
+    private static final String IDEMPOTENCY_KEY_FIELD = "idempotencyKey";
+    private static final String SEQUENCE_FIELD = "sequence";
+
+    private final MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void createIndexes() {
+        createIndex(Event.class, new Index()
+                .on(ORDER_ID_FIELD, Sort.Direction.ASC)
+                .on(CREATED_AT_FIELD, Sort.Direction.DESC));
+        createIndex(Event.class, new Index()
+                .on(TRANSACTION_ID_FIELD, Sort.Direction.ASC)
+                .on(CREATED_AT_FIELD, Sort.Direction.DESC));
+        createIndex(Event.class, new Index()
+                .on(CREATED_AT_FIELD, Sort.Direction.DESC)
+                .on(ID_FIELD, Sort.Direction.DESC));
+        createIndex(EventArchiveService.ARCHIVE_COLLECTION, new Index()
+                .on(ORDER_ID_FIELD, Sort.Direction.ASC)
+                .on(CREATED_AT_FIELD, Sort.Direction.DESC));
+        createIndex(EventArchiveService.ARCHIVE_COLLECTION, new Index()
+                .on(TRANSACTION_ID_FIELD, Sort.Direction.ASC)
+                .on(CREATED_AT_FIELD, Sort.Direction.DESC));
+        createIndex(Order.class, new Index()
+                .on(OUTBOX_STATUS_FIELD, Sort.Direction.ASC)
+                .on(CREATED_AT_FIELD, Sort.Direction.ASC));
+        createIndex(Order.class, new Index()
+                .on(IDEMPOTENCY_KEY_FIELD, Sort.Direction.ASC)
+                .unique()
+                .sparse());
+        createIndex(OrderStreamEntry.class, new Index()
+                .on(ORDER_ID_FIELD, Sort.Direction.ASC)
+                .on(SEQUENCE_FIELD, Sort.Direction.ASC));
+        createIndex(OrderStatus.class, new Index()
+                .on(TRANSACTION_ID_FIELD, Sort.Direction.ASC));
+    }
+
+    private void createIndex(Class<?> documentClass, Index index) {
+        createIndex(mongoTemplate.getCollectionName(documentClass), index);
+    }
+
+    private void createIndex(String collectionName, Index index) {
+        final String name = mongoTemplate.indexOps(collectionName).createIndex(index);
+        log.info("Index {} ensured on collection {}", name, collectionName);
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.microservices.orchestrated.authservice.core.cache;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class EventLookupCache {
+    private static final String CACHE_NAME = "event.lookup";
+    private static final String ORDER_ID_KEY = "order:";
+    private static final String TRANSACTION_ID_KEY = "transaction:";
+
+    private final Cache<String, Optional<Event>> cache;
+
+    public EventLookupCache(MeterRegistry meterRegistry,
+                            @Value("${order.event-cache.max-size}") long maxSize,
+                            @Value("${order.event-cache.ttl}") Duration ttl,
+                            @Value("${order.event-cache.negative-ttl}") Duration negativeTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, Optional<Event>>writing((key, event) -> event.isPresent() ? ttl : negativeTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<Event> getByOrderId(String orderId, Function<String, Optional<Event>> loader) {
+        return cache.get(ORDER_ID_KEY.concat(orderId), key -> loader.apply(orderId));
+    }
+
+    public Optional<Event> getByTransactionId(String transactionId, Function<String, Optional<Event>> loader) {
+        return cache.get(TRANSACTION_ID_KEY.concat(transactionId), key -> loader.apply(transactionId));
+    }
+
+    public void put(Event event) {
+        if (!ObjectUtils.isEmpty(event.getOrderId())) {
+            cache.put(ORDER_ID_KEY.concat(event.getOrderId()), Optional.of(event));
+        }
+        if (!ObjectUtils.isEmpty(event.getTransactionId())) {
+            cache.put(TRANSACTION_ID_KEY.concat(event.getTransactionId()), Optional.of(event));
+        }
+    }
+}
@@ -1,27 +1,64 @@
 package br.com.microservices.orchestrated.authservice.core.consumer;
 
+import br.com.microservices.orchestrated.authservice.core.cache.EventLookupCache;
 import br.com.microservices.orchestrated.authservice.core.document.Event;
 import br.com.microservices.orchestrated.authservice.core.service.EventService;
-import br.com.microservices.orchestrated.authservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.authservice.core.service.OrderStatusService;
+import br.com.microservices.orchestrated.authservice.core.service.SagaCompletionNotifier;
+import br.com.microservices.orchestrated.authservice.core.service.SagaResultRegistry;
+import br.com.microservices.orchestrated.authservice.core.utils.EventCodec;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Objects;
+
 @Slf4j
 @Component
 @AllArgsConstructor
 public class EventConsumer {
-    private final JsonUtil jsonUtil;
+    private final EventCodec eventCodec;
     private final EventService service;
+    private final SagaCompletionNotifier sagaCompletionNotifier;
+    private final SagaResultRegistry sagaResultRegistry;
+    private final EventLookupCache eventLookupCache;
+    private final OrderStatusService orderStatusService;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
-            topics = "${spring.kafka.topic.notify-ending}"
+            topics = "${spring.kafka.topic.notify-ending}",
+            containerFactory = "batchListenerContainerFactory"
+    )
+    public void consumeNotifyEndingEvents(List<byte[]> payloads) {
+        final List<Event> events = payloads
+                .stream()
+                .map(eventCodec::decode)
+                .filter(Objects::nonNull)
+                .toList();
+        log.info("Receiving {} ending notification events from notify-ending topic", events.size());
+        service.notifyEnding(events);
+    }
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.completion-group-id}",
+            topics = "${spring.kafka.topic.notify-ending}",
+            containerFactory = "recordListenerContainerFactory"
     )
-    public void consumeNotifyEndingEvent(String payload) {
-        log.info("Receiving ending notification event {} from notify-ending topic", payload);
-        final Event event = jsonUtil.toEvent(payload);
-        service.notifyEnding(event);
+    public void consumeCompletionEvent(ConsumerRecord<String, byte[]> record) {
+        final Event event = eventCodec.decode(record.value());
+        if (event == null) {
+            return;
+        }
+        log.debug("Receiving completion event for transaction {} from notify-ending topic", record.key());
+        eventLookupCache.put(event);
+        orderStatusService.onCompleted(event);
+        if (!sagaResultRegistry.isPending(record.key()) && !sagaCompletionNotifier.hasSubscribers()) {
+            return;
+        }
+        sagaResultRegistry.complete(event);
+        sagaCompletionNotifier.publish(event);
     }
 }
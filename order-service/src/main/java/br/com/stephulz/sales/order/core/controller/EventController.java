@@ -1,12 +1,19 @@
 package br.com.microservices.orchestrated.authservice.core.controller;
 
 import br.com.microservices.orchestrated.authservice.core.document.Event;
+import br.com.microservices.orchestrated.authservice.core.document.OrderStatus;
 import br.com.microservices.orchestrated.authservice.core.dto.EventFilters;
+import br.com.microservices.orchestrated.authservice.core.dto.EventStreamFilters;
+import br.com.microservices.orchestrated.authservice.core.service.EventExportService;
 import br.com.microservices.orchestrated.authservice.core.service.EventService;
+import br.com.microservices.orchestrated.authservice.core.service.OrderStatusService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import java.util.List;
 
@@ -15,14 +22,35 @@ import java.util.List;
 @RequestMapping("/api/event")
 public class EventController {
     private final EventService eventService;
+    private final OrderStatusService orderStatusService;
+    private final EventExportService eventExportService;
 
     @GetMapping
     public Event findByFilters(EventFilters eventFilters) {
         return eventService.findByFilters(eventFilters);
     }
 
+    @GetMapping("status")
+    public OrderStatus findStatusByFilters(EventFilters eventFilters) {
+        return orderStatusService.findByFilters(eventFilters);
+    }
+
     @GetMapping("all")
     public List<Event> findAll() {
         return eventService.findAll();
     }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamNdjson(EventStreamFilters filters) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(eventExportService.ndjson(eventService.streamByCursor(filters)));
+    }
+
+    @GetMapping(value = "stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamArray(EventStreamFilters filters) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(eventExportService.jsonArray(eventService.streamByCursor(filters)));
+    }
 }
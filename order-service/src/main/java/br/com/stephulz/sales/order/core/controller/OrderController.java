@@ -1,22 +1,90 @@
 package br.com.microservices.orchestrated.authservice.core.controller;
 
+import br.com.microservices.orchestrated.authservice.core.document.Event;
 import br.com.microservices.orchestrated.authservice.core.document.Order;
+import br.com.microservices.orchestrated.authservice.core.document.OrderSnapshot;
+import br.com.microservices.orchestrated.authservice.core.document.OrderStreamEntry;
+import br.com.microservices.orchestrated.authservice.core.dto.OrderBatchResult;
 import br.com.microservices.orchestrated.authservice.core.dto.OrderRequest;
 import br.com.microservices.orchestrated.authservice.core.service.OrderService;
+import br.com.microservices.orchestrated.authservice.core.service.OrderStreamService;
+import br.com.microservices.orchestrated.authservice.core.service.SagaCompletionNotifier;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api/order")
 public class OrderController {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final SagaCompletionNotifier sagaCompletionNotifier;
+    private final OrderStreamService orderStreamService;
 
     @PostMapping
-    public Order createOrder(@RequestBody OrderRequest orderRequest) {
-        return orderService.createOrder(orderRequest);
+    public Order createOrder(@RequestBody OrderRequest orderRequest,
+                             @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return orderService.createOrder(orderRequest, idempotencyKey);
+    }
+
+    @PostMapping(params = "await")
+    public CompletableFuture<ResponseEntity<?>> createOrderAndAwait(@RequestBody OrderRequest orderRequest,
+                                                                   @RequestParam("await") String await,
+                                                                   @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        final Duration timeout = orderService.parseAwaitTimeout(await);
+        final Order order = orderService.createOrder(orderRequest, idempotencyKey);
+        final URI statusUri = ServletUriComponentsBuilder
+                .fromCurrentContextPath()
+                .path("/api/event")
+                .queryParam("orderId", order.getId())
+                .build()
+                .toUri();
+        return orderService
+                .awaitResult(order, timeout)
+                .thenApply(event -> toAwaitResponse(order, event, statusUri));
+    }
+
+    @PostMapping("batch")
+    public List<OrderBatchResult> createOrders(@RequestBody List<OrderRequest> orderRequests) {
+        return orderService.createOrders(orderRequests);
+    }
+
+    @GetMapping("{id}/state")
+    public OrderSnapshot findState(@PathVariable String id) {
+        return orderStreamService.findState(id);
+    }
+
+    @GetMapping("{id}/timeline")
+    public List<OrderStreamEntry> findTimeline(@PathVariable String id) {
+        return orderStreamService.findTimeline(id);
+    }
+
+    @GetMapping(value = "{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@PathVariable String id) {
+        return sagaCompletionNotifier.subscribe(id);
+    }
+
+    private ResponseEntity<?> toAwaitResponse(Order order, Event event, URI statusUri) {
+        if (event == null) {
+            return ResponseEntity.accepted().location(statusUri).body(order);
+        }
+        return ResponseEntity.ok(event);
     }
 }
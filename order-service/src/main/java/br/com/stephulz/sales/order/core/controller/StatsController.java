@@ -0,0 +1,21 @@
+package br.com.microservices.orchestrated.authservice.core.controller;
+
+import br.com.microservices.orchestrated.authservice.core.dto.SalesStats;
+import br.com.microservices.orchestrated.authservice.core.service.SalesStatsService;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/stats")
+public class StatsController {
+    private final SalesStatsService salesStatsService;
+
+    @GetMapping
+    public SalesStats findByWindow(@RequestParam(defaultValue = "5m") String window) {
+        return salesStatsService.findByWindow(window);
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.microservices.orchestrated.authservice.core.document;
 
+import br.com.microservices.orchestrated.authservice.core.enums.EOutboxStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,6 +23,15 @@ public class Order {
     private List<OrderProducts> products;
     private LocalDateTime createdAt;
     private String transactionId;
+    private String idempotencyKey;
     private double totalAmount;
     private int totalItems;
+    @JsonIgnore
+    private EOutboxStatus outboxStatus;
+    @JsonIgnore
+    private String eventId;
+    @JsonIgnore
+    private String outboxOwner;
+    @JsonIgnore
+    private LocalDateTime outboxLeaseUntil;
 }
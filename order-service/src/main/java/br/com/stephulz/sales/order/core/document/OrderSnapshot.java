@@ -0,0 +1,28 @@
+package br.com.microservices.orchestrated.authservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "order_snapshot")
+public class OrderSnapshot {
+    @Id
+    private String orderId;
+    private long sequence;
+    private String transactionId;
+    private String source;
+    private String status;
+    private double totalAmount;
+    private int totalItems;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package br.com.microservices.orchestrated.authservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "order_status")
+public class OrderStatus {
+    @Id
+    private String orderId;
+    private String transactionId;
+    private String status;
+    private String source;
+    private double totalAmount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
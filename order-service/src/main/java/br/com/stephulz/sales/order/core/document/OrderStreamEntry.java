@@ -0,0 +1,29 @@
+package br.com.microservices.orchestrated.authservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "order_stream")
+public class OrderStreamEntry {
+    @Id
+    private String id;
+    private String orderId;
+    private long sequence;
+    private String transactionId;
+    private String source;
+    private String status;
+    private String message;
+    private Double totalAmount;
+    private Integer totalItems;
+    private LocalDateTime createdAt;
+}
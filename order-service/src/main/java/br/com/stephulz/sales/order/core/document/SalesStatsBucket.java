@@ -0,0 +1,28 @@
+package br.com.microservices.orchestrated.authservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "sales_stats")
+public class SalesStatsBucket {
+    @Id
+    private Long epochMinute;
+    private long count;
+    private long success;
+    private long fail;
+    private double totalAmount;
+    private long totalItems;
+    @Builder.Default
+    private Map<String, Long> failuresBySource = new HashMap<>();
+}
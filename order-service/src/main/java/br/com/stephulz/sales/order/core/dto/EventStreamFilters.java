@@ -0,0 +1,19 @@
+package br.com.microservices.orchestrated.authservice.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventStreamFilters {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime afterCreatedAt;
+    private String afterId;
+    private Integer limit;
+    private boolean summary;
+}
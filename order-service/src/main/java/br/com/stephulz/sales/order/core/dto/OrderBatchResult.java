@@ -0,0 +1,18 @@
+package br.com.microservices.orchestrated.authservice.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBatchResult {
+    private int index;
+    private boolean accepted;
+    private String orderId;
+    private String transactionId;
+    private String message;
+}
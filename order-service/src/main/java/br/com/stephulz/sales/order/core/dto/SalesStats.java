@@ -0,0 +1,26 @@
+package br.com.microservices.orchestrated.authservice.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesStats {
+    private String window;
+    private Instant from;
+    private Instant to;
+    private long count;
+    private long success;
+    private long fail;
+    private double failureRate;
+    private double totalAmount;
+    private long totalItems;
+    private Map<String, Long> failuresBySource;
+}
@@ -0,0 +1,6 @@
+package br.com.microservices.orchestrated.authservice.core.enums;
+
+public enum EIdStrategy {
+    ULID,
+    LEGACY
+}
@@ -0,0 +1,7 @@
+package br.com.microservices.orchestrated.authservice.core.enums;
+
+public enum EOutboxStatus {
+    PENDING,
+    IN_FLIGHT,
+    PUBLISHED
+}
@@ -0,0 +1,70 @@
+package br.com.microservices.orchestrated.authservice.core.producer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class KafkaSender {
+    private static final String SEND_LATENCY_METRIC = "saga.producer.send.latency";
+    private static final String SEND_FAILURE_METRIC = "saga.producer.send.failures";
+    private static final String IN_FLIGHT_METRIC = "saga.producer.in.flight";
+    private static final String TOPIC_TAG = "topic";
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore inFlight;
+
+    public KafkaSender(KafkaTemplate<String, byte[]> kafkaTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${spring.kafka.producer.max-in-flight}") int maxInFlight) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(maxInFlight);
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, semaphore -> maxInFlight - semaphore.availablePermits())
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<SendResult<String, byte[]>> send(ProducerRecord<String, byte[]> record) {
+        inFlight.acquireUninterruptibly();
+        final long start = System.nanoTime();
+        try {
+            return kafkaTemplate.send(record).whenComplete((result, ex) -> {
+                inFlight.release();
+                sendLatency(record.topic()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (ex != null) {
+                    onFailure(record, ex);
+                }
+            });
+        } catch (Exception ex) {
+            inFlight.release();
+            onFailure(record, ex);
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private void onFailure(ProducerRecord<String, byte[]> record, Throwable ex) {
+        sendFailures(record.topic()).increment();
+        log.error("Error {} when trying to deliver record with key {} to topic {}", ex.getMessage(), record.key(), record.topic());
+    }
+
+    private Timer sendLatency(String topic) {
+        return Timer.builder(SEND_LATENCY_METRIC).tag(TOPIC_TAG, topic).register(meterRegistry);
+    }
+
+    private Counter sendFailures(String topic) {
+        return Counter.builder(SEND_FAILURE_METRIC).tag(TOPIC_TAG, topic).register(meterRegistry);
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.microservices.orchestrated.authservice.core.producer;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import br.com.microservices.orchestrated.authservice.core.document.Order;
+import br.com.microservices.orchestrated.authservice.core.enums.EOutboxStatus;
+import br.com.microservices.orchestrated.authservice.core.repository.OrderRepository;
+import br.com.microservices.orchestrated.authservice.core.service.EventService;
+import br.com.microservices.orchestrated.authservice.core.utils.EventCodec;
+import br.com.microservices.orchestrated.authservice.core.utils.IdGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static br.com.microservices.orchestrated.authservice.core.enums.EOutboxStatus.IN_FLIGHT;
+import static br.com.microservices.orchestrated.authservice.core.enums.EOutboxStatus.PENDING;
+import static br.com.microservices.orchestrated.authservice.core.enums.EOutboxStatus.PUBLISHED;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+    private static final String ID_FIELD = "id";
+    private static final String OUTBOX_STATUS_FIELD = "outboxStatus";
+    private static final String EVENT_ID_FIELD = "eventId";
+    private static final String OUTBOX_OWNER_FIELD = "outboxOwner";
+    private static final String OUTBOX_LEASE_UNTIL_FIELD = "outboxLeaseUntil";
+    private static final String CREATED_AT_FIELD = "createdAt";
+
+    private final OrderRepository orderRepository;
+    private final EventService eventService;
+    private final EventCodec eventCodec;
+    private final SagaProducer producer;
+    private final MongoTemplate mongoTemplate;
+    private final IdGenerator idGenerator;
+    @Value("${spring.kafka.outbox.batch-size}")
+    private int batchSize;
+    @Value("${spring.kafka.outbox.lease}")
+    private Duration lease;
+
+    @Scheduled(fixedDelayString = "${spring.kafka.outbox.poll-interval-ms}")
+    public void relay() {
+        int published;
+        do {
+            published = relayBatch();
+        } while (published == batchSize);
+    }
+
+    private int relayBatch() {
+        final List<Order> orders = claim();
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        final String owner = orders.getFirst().getOutboxOwner();
+        assignEventIds(orders);
+        final List<Event> events = eventService.insertAll(orders.stream().map(this::createPayload).toList());
+        final List<CompletableFuture<SendResult<String, byte[]>>> deliveries = events
+                .stream()
+                .map(event -> producer.sendEvent(eventCodec.encode(event), event.getTransactionId()))
+                .toList();
+        final List<String> publishedOrderIds = new ArrayList<>(events.size());
+        final List<String> failedOrderIds = new ArrayList<>();
+        for (int index = 0; index < deliveries.size(); index++) {
+            try {
+                deliveries.get(index).join();
+                publishedOrderIds.add(events.get(index).getOrderId());
+            } catch (CompletionException ex) {
+                failedOrderIds.add(events.get(index).getOrderId());
+                log.error("Error relaying order {} to start saga, it will be retried",
+                        events.get(index).getOrderId(), ex.getCause());
+            }
+        }
+        release(owner, publishedOrderIds, PUBLISHED);
+        release(owner, failedOrderIds, PENDING);
+        log.info("Outbox relay published {} of {} claimed orders", publishedOrderIds.size(), orders.size());
+        return publishedOrderIds.size();
+    }
+
+    private List<Order> claim() {
+        final LocalDateTime now = LocalDateTime.now();
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where(OUTBOX_STATUS_FIELD).is(IN_FLIGHT).and(OUTBOX_LEASE_UNTIL_FIELD).lt(now)),
+                new Update().set(OUTBOX_STATUS_FIELD, PENDING).unset(OUTBOX_OWNER_FIELD).unset(OUTBOX_LEASE_UNTIL_FIELD),
+                Order.class);
+        final List<String> candidateIds = orderRepository
+                .findByOutboxStatusOrderByCreatedAtAsc(PENDING, PageRequest.of(0, batchSize))
+                .stream()
+                .map(Order::getId)
+                .toList();
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        final String owner = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where(ID_FIELD).in(candidateIds).and(OUTBOX_STATUS_FIELD).is(PENDING)),
+                new Update()
+                        .set(OUTBOX_STATUS_FIELD, IN_FLIGHT)
+                        .set(OUTBOX_OWNER_FIELD, owner)
+                        .set(OUTBOX_LEASE_UNTIL_FIELD, now.plus(lease)),
+                Order.class);
+        return mongoTemplate.find(
+                Query.query(Criteria.where(ID_FIELD).in(candidateIds).and(OUTBOX_OWNER_FIELD).is(owner))
+                        .with(Sort.by(CREATED_AT_FIELD)),
+                Order.class);
+    }
+
+    private Event createPayload(Order order) {
+        return Event.builder()
+                .id(order.getEventId())
+                .orderId(order.getId())
+                .transactionId(order.getTransactionId())
+                .payload(order)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void assignEventIds(List<Order> orders) {
+        final List<Order> missing = orders.stream().filter(order -> order.getEventId() == null).toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        final BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class);
+        missing.forEach(order -> {
+            order.setEventId(Optional.ofNullable(idGenerator.nextDocumentId()).orElseGet(() -> new ObjectId().toHexString()));
+            bulkOperations.updateOne(
+                    Query.query(Criteria.where(ID_FIELD).is(order.getId())),
+                    Update.update(EVENT_ID_FIELD, order.getEventId()));
+        });
+        bulkOperations.execute();
+    }
+
+    private void release(String owner, List<String> orderIds, EOutboxStatus status) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(
+                Query.query(Criteria.where(ID_FIELD).in(orderIds).and(OUTBOX_OWNER_FIELD).is(owner)),
+                new Update().set(OUTBOX_STATUS_FIELD, status).unset(OUTBOX_OWNER_FIELD).unset(OUTBOX_LEASE_UNTIL_FIELD),
+                Order.class);
+    }
+}
@@ -2,24 +2,23 @@ package br.com.microservices.orchestrated.authservice.core.producer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SagaProducer {
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaSender kafkaSender;
     @Value("${spring.kafka.topic.start-saga}")
     private String startSagaTopic;
 
-    public void sendEvent(String payload) {
-        try {
-            log.info("Sending event to topic {} with data {}", startSagaTopic, payload);
-            kafkaTemplate.send(startSagaTopic, payload);
-        } catch (Exception ex) {
-            log.error("Error {} with cause {} when trying to send data to topic {} with data {}", ex.getMessage(), ex.getCause(), startSagaTopic, payload);
-        }
+    public CompletableFuture<SendResult<String, byte[]>> sendEvent(byte[] payload, String key) {
+        log.info("Sending event to topic {} with key {}", startSagaTopic, key);
+        return kafkaSender.send(new ProducerRecord<>(startSagaTopic, key, payload));
     }
 }
@@ -1,7 +1,14 @@
 package br.com.microservices.orchestrated.authservice.core.repository;
 
 import br.com.microservices.orchestrated.authservice.core.document.Order;
+import br.com.microservices.orchestrated.authservice.core.enums.EOutboxStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface OrderRepository extends MongoRepository<Order, String> {
+    List<Order> findByOutboxStatusOrderByCreatedAtAsc(EOutboxStatus outboxStatus, Pageable pageable);
+    Optional<Order> findByIdempotencyKey(String idempotencyKey);
 }
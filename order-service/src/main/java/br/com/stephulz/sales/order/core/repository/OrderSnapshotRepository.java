@@ -0,0 +1,7 @@
+package br.com.microservices.orchestrated.authservice.core.repository;
+
+import br.com.microservices.orchestrated.authservice.core.document.OrderSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface OrderSnapshotRepository extends MongoRepository<OrderSnapshot, String> {
+}
@@ -0,0 +1,10 @@
+package br.com.microservices.orchestrated.authservice.core.repository;
+
+import br.com.microservices.orchestrated.authservice.core.document.OrderStatus;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Optional;
+
+public interface OrderStatusRepository extends MongoRepository<OrderStatus, String> {
+    Optional<OrderStatus> findByTransactionId(String transactionId);
+}
@@ -0,0 +1,11 @@
+package br.com.microservices.orchestrated.authservice.core.repository;
+
+import br.com.microservices.orchestrated.authservice.core.document.OrderStreamEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface OrderStreamRepository extends MongoRepository<OrderStreamEntry, String> {
+    List<OrderStreamEntry> findByOrderIdOrderBySequenceAsc(String orderId);
+    List<OrderStreamEntry> findByOrderIdAndSequenceGreaterThanOrderBySequenceAsc(String orderId, long sequence);
+}
@@ -0,0 +1,10 @@
+package br.com.microservices.orchestrated.authservice.core.repository;
+
+import br.com.microservices.orchestrated.authservice.core.document.SalesStatsBucket;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface SalesStatsRepository extends MongoRepository<SalesStatsBucket, Long> {
+    List<SalesStatsBucket> findByEpochMinuteGreaterThanEqual(Long epochMinute);
+}
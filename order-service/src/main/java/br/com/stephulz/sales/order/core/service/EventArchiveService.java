@@ -0,0 +1,107 @@
+package br.com.microservices.orchestrated.authservice.core.service;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class EventArchiveService {
+    public static final String ARCHIVE_COLLECTION = "event_archive";
+
+    private static final String ID_FIELD = "id";
+    private static final String CREATED_AT_FIELD = "createdAt";
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pause;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("event-archive").daemon().factory());
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public EventArchiveService(MongoTemplate mongoTemplate,
+                               @Value("${order.archive.enabled}") boolean enabled,
+                               @Value("${order.archive.max-age}") Duration maxAge,
+                               @Value("${order.archive.batch-size}") int batchSize,
+                               @Value("${order.archive.max-batches-per-run}") int maxBatchesPerRun,
+                               @Value("${order.archive.pause}") Duration pause) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pause = pause;
+    }
+
+    @Scheduled(fixedDelayString = "${order.archive.interval}")
+    public void archive() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        final LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        executor.execute(() -> archiveBatch(cutoff, 0, 0));
+    }
+
+    private void archiveBatch(LocalDateTime cutoff, int batch, int archived) {
+        try {
+            final List<Event> events = mongoTemplate.find(Query
+                    .query(Criteria.where(CREATED_AT_FIELD).lt(cutoff))
+                    .with(Sort.by(Sort.Direction.ASC, CREATED_AT_FIELD))
+                    .limit(batchSize), Event.class);
+            if (!events.isEmpty()) {
+                moveToArchive(events);
+            }
+            final int total = archived + events.size();
+            if (events.size() == batchSize && batch + 1 < maxBatchesPerRun) {
+                executor.schedule(() -> archiveBatch(cutoff, batch + 1, total), pause.toMillis(), TimeUnit.MILLISECONDS);
+                return;
+            }
+            if (total > 0) {
+                log.info("Archived {} events created before {}", total, cutoff);
+            }
+        } catch (Exception ex) {
+            log.error("Error archiving events created before {}, it will be retried on the next run", cutoff, ex);
+        }
+        running.set(false);
+    }
+
+    public Optional<Event> findLatest(String field, String value) {
+        return Optional.ofNullable(mongoTemplate.findOne(Query
+                .query(Criteria.where(field).is(value))
+                .with(Sort.by(Sort.Direction.DESC, CREATED_AT_FIELD)), Event.class, ARCHIVE_COLLECTION));
+    }
+
+    private void moveToArchive(List<Event> events) {
+        final BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class, ARCHIVE_COLLECTION);
+        events.forEach(event -> bulkOperations.replaceOne(
+                Query.query(Criteria.where(ID_FIELD).is(event.getId())), event, FindAndReplaceOptions.options().upsert()));
+        bulkOperations.execute();
+        mongoTemplate.remove(Query.query(Criteria.where(ID_FIELD).in(events.stream().map(Event::getId).toList())), Event.class);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
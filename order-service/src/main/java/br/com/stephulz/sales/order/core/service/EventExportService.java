@@ -0,0 +1,82 @@
+package br.com.microservices.orchestrated.authservice.core.service;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class EventExportService {
+    private static final int CHUNK_SIZE = 32 * 1024;
+    private static final String NDJSON_SEPARATOR = "\n";
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public EventExportService(ObjectMapper objectMapper,
+                              @Value("${order.event-stream.timeout}") Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public ResponseBodyEmitter ndjson(Stream<Event> events) {
+        return export(events, "", NDJSON_SEPARATOR, "", MediaType.APPLICATION_NDJSON);
+    }
+
+    public ResponseBodyEmitter jsonArray(Stream<Event> events) {
+        return export(events, "[", ",", "]", MediaType.APPLICATION_JSON);
+    }
+
+    private ResponseBodyEmitter export(Stream<Event> events, String prefix, String separator, String suffix, MediaType mediaType) {
+        final ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMillis);
+        emitter.onTimeout(() -> log.warn("Event export timed out after {}ms", timeoutMillis));
+        executor.execute(() -> {
+            try (events) {
+                final ByteArrayOutputStream chunk = new ByteArrayOutputStream(CHUNK_SIZE);
+                chunk.writeBytes(bytes(prefix));
+                boolean first = true;
+                for (var iterator = events.iterator(); iterator.hasNext(); first = false) {
+                    if (!first) {
+                        chunk.writeBytes(bytes(separator));
+                    }
+                    chunk.writeBytes(objectMapper.writeValueAsBytes(iterator.next()));
+                    if (chunk.size() >= CHUNK_SIZE) {
+                        emitter.send(chunk.toByteArray(), mediaType);
+                        chunk.reset();
+                    }
+                }
+                chunk.writeBytes(bytes(suffix));
+                if (chunk.size() > 0) {
+                    emitter.send(chunk.toByteArray(), mediaType);
+                }
+                emitter.complete();
+            } catch (Exception ex) {
+                log.warn("Event export stopped: {}", ex.getMessage());
+                emitter.completeWithError(ex);
+            }
+        });
+        return emitter;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,35 +1,108 @@
 package br.com.microservices.orchestrated.authservice.core.service;
 
 import br.com.microservices.orchestrated.authservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.authservice.core.cache.EventLookupCache;
 import br.com.microservices.orchestrated.authservice.core.document.Event;
 import br.com.microservices.orchestrated.authservice.core.dto.EventFilters;
+import br.com.microservices.orchestrated.authservice.core.dto.EventStreamFilters;
 import br.com.microservices.orchestrated.authservice.core.repository.EventRepository;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ObjectUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class EventService {
+    private static final String ID_FIELD = "id";
+    private static final String MONGO_ID_FIELD = "_id";
+    private static final String ORDER_ID_FIELD = "orderId";
+    private static final String TRANSACTION_ID_FIELD = "transactionId";
+    private static final String CREATED_AT_FIELD = "createdAt";
+    private static final String PAYLOAD_FIELD = "payload";
+    private static final String EVENT_HISTORY_FIELD = "eventHistory";
 
     private final EventRepository repository;
+    private final MongoTemplate mongoTemplate;
+    private final EventLookupCache eventLookupCache;
+    private final OrderStatusService orderStatusService;
+    private final SalesStatsService salesStatsService;
+    private final EventArchiveService eventArchiveService;
+    private final OrderStreamService orderStreamService;
+    @Value("${order.event-stream.batch-size}")
+    private int streamBatchSize;
 
-    public void notifyEnding(Event event) {
-        event.setOrderId(event.getOrderId());
-        event.setCreatedAt(LocalDateTime.now());
-        save(event);
-        log.info("Order {} with saga notified! TransactionId: {}", event.getOrderId(), event.getTransactionId());
+    public void notifyEnding(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        final BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class);
+        events.forEach(event -> {
+            event.setCreatedAt(LocalDateTime.now());
+            if (ObjectUtils.isEmpty(event.getId())) {
+                bulkOperations.insert(event);
+            } else {
+                bulkOperations.replaceOne(
+                        Query.query(Criteria.where(ID_FIELD).is(event.getId())), event, FindAndReplaceOptions.options().upsert());
+            }
+        });
+        bulkOperations.execute();
+        orderStatusService.onFinished(events);
+        orderStreamService.appendFinished(events);
+        salesStatsService.record(events);
+        events.forEach(eventLookupCache::put);
+        events.forEach(event -> log.debug("Order {} with saga notified! TransactionId: {}", event.getOrderId(), event.getTransactionId()));
+        log.info("{} orders with saga notified", events.size());
     }
 
     public List<Event> findAll() {
         return repository.findAllByOrderByCreatedAtDesc();
     }
 
+    public Stream<Event> streamByCursor(EventStreamFilters filters) {
+        validateCursor(filters);
+        final Query query = new Query()
+                .with(Sort.by(Sort.Direction.DESC, CREATED_AT_FIELD, ID_FIELD))
+                .cursorBatchSize(streamBatchSize);
+        if (!ObjectUtils.isEmpty(filters.getAfterCreatedAt())) {
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where(CREATED_AT_FIELD).lt(filters.getAfterCreatedAt()),
+                    Criteria.where(CREATED_AT_FIELD).is(filters.getAfterCreatedAt()).and(ID_FIELD).lt(filters.getAfterId())
+            ));
+        }
+        if (!ObjectUtils.isEmpty(filters.getLimit())) {
+            query.limit(filters.getLimit());
+        }
+        if (filters.isSummary()) {
+            query.fields().exclude(PAYLOAD_FIELD, EVENT_HISTORY_FIELD);
+        }
+        return mongoTemplate.stream(query, Event.class);
+    }
+
+    private void validateCursor(EventStreamFilters filters) {
+        if (ObjectUtils.isEmpty(filters.getAfterCreatedAt()) != ObjectUtils.isEmpty(filters.getAfterId())) {
+            throw new ValidationException("AfterCreatedAt and AfterId must be informed together.");
+        }
+        if (!ObjectUtils.isEmpty(filters.getLimit()) && filters.getLimit() <= 0) {
+            throw new ValidationException("Limit must be greater than zero.");
+        }
+    }
+
     public Event findByFilters(EventFilters eventFilters) {
         validadeEmptyFilters(eventFilters);
         if (!ObjectUtils.isEmpty(eventFilters.getOrderId())) {
@@ -39,13 +112,19 @@ public class EventService {
         }
     }
 
+    public Optional<Event> findLatestByOrderId(String orderId) {
+        return eventLookupCache.getByOrderId(orderId, id -> repository.findTop1ByOrderIdOrderByCreatedAtDesc(id)
+                .or(() -> eventArchiveService.findLatest(ORDER_ID_FIELD, id)));
+    }
+
     private Event findByOrderId(String orderId) {
-        return repository.findTop1ByOrderIdOrderByCreatedAtDesc(orderId)
+        return findLatestByOrderId(orderId)
                 .orElseThrow(() -> new ValidationException("Event not found by orderID."));
     }
 
     private Event findByTransactionId(String transactionId) {
-        return repository.findTop1ByTransactionIdOrderByCreatedAtDesc(transactionId)
+        return eventLookupCache.getByTransactionId(transactionId, id -> repository.findTop1ByTransactionIdOrderByCreatedAtDesc(id)
+                        .or(() -> eventArchiveService.findLatest(TRANSACTION_ID_FIELD, id)))
                 .orElseThrow(() -> new ValidationException("Event not found by transactionID."));
     }
 
@@ -56,6 +135,38 @@ public class EventService {
     }
 
     public Event save(Event event) {
-        return repository.save(event);
+        final Event saved = repository.save(event);
+        eventLookupCache.put(saved);
+        return saved;
+    }
+
+    public List<Event> insertAll(List<Event> events) {
+        if (events.isEmpty()) {
+            return events;
+        }
+        final BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, Event.class);
+        events.forEach(event -> bulkOperations.upsert(
+                Query.query(Criteria.where(ID_FIELD).is(event.getId())), insertOnly(event)));
+        final List<Event> inserted = bulkOperations.execute()
+                .getUpserts()
+                .stream()
+                .map(upsert -> events.get(upsert.getIndex()))
+                .toList();
+        orderStatusService.onStarted(inserted);
+        orderStreamService.appendStarted(inserted);
+        inserted.forEach(eventLookupCache::put);
+        return events;
+    }
+
+    private Update insertOnly(Event event) {
+        final Document document = new Document();
+        mongoTemplate.getConverter().write(event, document);
+        final Update update = new Update();
+        document.forEach((field, value) -> {
+            if (!MONGO_ID_FIELD.equals(field)) {
+                update.setOnInsert(field, value);
+            }
+        });
+        return update;
     }
 }
@@ -0,0 +1,50 @@
+package br.com.microservices.orchestrated.authservice.core.service;
+
+import br.com.microservices.orchestrated.authservice.core.document.Order;
+import br.com.microservices.orchestrated.authservice.core.repository.OrderRepository;
+import br.com.microservices.orchestrated.authservice.core.utils.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class IdempotencyKeyService {
+    private final OrderRepository repository;
+    private final BloomFilter seenKeys;
+    private final Cache<String, Order> recentKeys;
+
+    public IdempotencyKeyService(OrderRepository repository,
+                                 @Value("${order.idempotency.expected-keys}") long expectedKeys,
+                                 @Value("${order.idempotency.false-positive-rate}") double falsePositiveRate,
+                                 @Value("${order.idempotency.recent-keys}") long recentKeys) {
+        this.repository = repository;
+        this.seenKeys = new BloomFilter(expectedKeys, falsePositiveRate);
+        this.recentKeys = Caffeine.newBuilder().maximumSize(recentKeys).build();
+    }
+
+    public Optional<Order> findExisting(String idempotencyKey) {
+        if (!seenKeys.mightContain(idempotencyKey)) {
+            return Optional.empty();
+        }
+        final Order recent = recentKeys.getIfPresent(idempotencyKey);
+        if (recent != null) {
+            return Optional.of(recent);
+        }
+        log.debug("Idempotency key {} possibly seen, checking order collection", idempotencyKey);
+        return findStored(idempotencyKey);
+    }
+
+    public Optional<Order> findStored(String idempotencyKey) {
+        return repository.findByIdempotencyKey(idempotencyKey);
+    }
+
+    public void remember(Order order) {
+        seenKeys.put(order.getIdempotencyKey());
+        recentKeys.put(order.getIdempotencyKey(), order);
+    }
+}
@@ -1,49 +1,144 @@
 package br.com.microservices.orchestrated.authservice.core.service;
 
+import br.com.microservices.orchestrated.authservice.config.exception.ValidationException;
 import br.com.microservices.orchestrated.authservice.core.document.Event;
 import br.com.microservices.orchestrated.authservice.core.document.Order;
+import br.com.microservices.orchestrated.authservice.core.dto.OrderBatchResult;
 import br.com.microservices.orchestrated.authservice.core.dto.OrderRequest;
-import br.com.microservices.orchestrated.authservice.core.producer.SagaProducer;
 import br.com.microservices.orchestrated.authservice.core.repository.OrderRepository;
-import br.com.microservices.orchestrated.authservice.core.utils.JsonUtil;
-import lombok.AllArgsConstructor;
+import br.com.microservices.orchestrated.authservice.core.utils.IdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ObjectUtils;
 
-import java.time.Instant;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static br.com.microservices.orchestrated.authservice.core.enums.EOutboxStatus.PENDING;
 
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class OrderService {
 
-    private static final String TRANSACTION_ID_PATTERN = "%s_%s";
+    private static final String EMPTY_PRODUCTS_MESSAGE = "Product list is empty!";
 
-    private final EventService eventService;
-    private final SagaProducer producer;
-    private final JsonUtil jsonUtil;
     private final OrderRepository repository;
+    private final EventService eventService;
+    private final SagaResultRegistry sagaResultRegistry;
+    private final IdempotencyKeyService idempotencyKeyService;
+    private final IdGenerator idGenerator;
+    @Value("${order.batch.max-size}")
+    private int maxBatchSize;
+    @Value("${order.await.max-timeout}")
+    private Duration maxAwaitTimeout;
 
     public Order createOrder(OrderRequest orderRequest) {
-        final Order order = Order.builder()
+        return repository.insert(buildOrder(orderRequest));
+    }
+
+    public Order createOrder(OrderRequest orderRequest, String idempotencyKey) {
+        if (ObjectUtils.isEmpty(idempotencyKey)) {
+            return createOrder(orderRequest);
+        }
+        final Optional<Order> existing = idempotencyKeyService.findExisting(idempotencyKey);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        final Order order = buildOrder(orderRequest);
+        order.setIdempotencyKey(idempotencyKey);
+        try {
+            repository.insert(order);
+        } catch (DuplicateKeyException ex) {
+            return idempotencyKeyService.findStored(idempotencyKey)
+                    .orElseThrow(() -> new ValidationException("Order not found by Idempotency-Key."));
+        }
+        idempotencyKeyService.remember(order);
+        return order;
+    }
+
+    public CompletableFuture<Event> awaitResult(Order order, Duration timeout) {
+        final CompletableFuture<Event> result = sagaResultRegistry.register(order.getTransactionId(), timeout);
+        eventService.findLatestByOrderId(order.getId())
+                .filter(event -> !ObjectUtils.isEmpty(event.getStatus()))
+                .ifPresent(sagaResultRegistry::complete);
+        return result;
+    }
+
+    public Duration parseAwaitTimeout(String await) {
+        final Duration timeout;
+        try {
+            timeout = DurationStyle.detectAndParse(await);
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Await must be a duration such as 5s or PT5S.");
+        }
+        if (timeout.isNegative() || timeout.isZero() || timeout.compareTo(maxAwaitTimeout) > 0) {
+            throw new ValidationException(String.format("Await must be greater than zero and at most %s.", maxAwaitTimeout));
+        }
+        return timeout;
+    }
+
+    public List<OrderBatchResult> createOrders(List<OrderRequest> orderRequests) {
+        validateBatchSize(orderRequests);
+        final OrderBatchResult[] results = new OrderBatchResult[orderRequests.size()];
+        final Map<Integer, Order> orders = new LinkedHashMap<>();
+        for (int index = 0; index < orderRequests.size(); index++) {
+            final OrderRequest orderRequest = orderRequests.get(index);
+            if (orderRequest == null || ObjectUtils.isEmpty(orderRequest.getProducts())) {
+                results[index] = rejected(index, EMPTY_PRODUCTS_MESSAGE);
+            } else {
+                orders.put(index, buildOrder(orderRequest));
+            }
+        }
+        if (!orders.isEmpty()) {
+            repository.insert(orders.values());
+        }
+        orders.forEach((index, order) -> results[index] = accepted(index, order));
+        return Arrays.asList(results);
+    }
+
+    private Order buildOrder(OrderRequest orderRequest) {
+        return Order.builder()
+                .id(idGenerator.nextDocumentId())
                 .products(orderRequest.getProducts())
                 .createdAt(LocalDateTime.now())
-                .transactionId(String.format(TRANSACTION_ID_PATTERN, Instant.now().toEpochMilli(), UUID.randomUUID()))
+                .transactionId(idGenerator.nextTransactionId())
+                .outboxStatus(PENDING)
+                .eventId(idGenerator.nextDocumentId())
                 .build();
-        repository.save(order);
-        String json = jsonUtil.toJson(createPayload(order));
-        producer.sendEvent(json);
-        return order;
     }
 
-    private Event createPayload(Order order) {
-        final Event event = Event.builder()
+    private void validateBatchSize(List<OrderRequest> orderRequests) {
+        if (ObjectUtils.isEmpty(orderRequests)) {
+            throw new ValidationException("At least one order must be informed.");
+        }
+        if (orderRequests.size() > maxBatchSize) {
+            throw new ValidationException(String.format("A batch supports at most %s orders.", maxBatchSize));
+        }
+    }
+
+    private OrderBatchResult accepted(int index, Order order) {
+        return OrderBatchResult.builder()
+                .index(index)
+                .accepted(true)
                 .orderId(order.getId())
                 .transactionId(order.getTransactionId())
-                .payload(order)
-                .createdAt(LocalDateTime.now())
                 .build();
-        eventService.save(event);
-        return event;
+    }
+
+    private OrderBatchResult rejected(int index, String message) {
+        return OrderBatchResult.builder()
+                .index(index)
+                .accepted(false)
+                .message(message)
+                .build();
     }
 }
@@ -0,0 +1,123 @@
+package br.com.microservices.orchestrated.authservice.core.service;
+
+import br.com.microservices.orchestrated.authservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import br.com.microservices.orchestrated.authservice.core.document.OrderStatus;
+import br.com.microservices.orchestrated.authservice.core.dto.EventFilters;
+import br.com.microservices.orchestrated.authservice.core.repository.OrderStatusRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ObjectUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+@Service
+public class OrderStatusService {
+    private static final String CACHE_NAME = "order.status";
+    private static final String PENDING_STATUS = "PENDING";
+    private static final String ID_FIELD = "_id";
+    private static final String TRANSACTION_ID_FIELD = "transactionId";
+    private static final String STATUS_FIELD = "status";
+    private static final String SOURCE_FIELD = "source";
+    private static final String TOTAL_AMOUNT_FIELD = "totalAmount";
+    private static final String CREATED_AT_FIELD = "createdAt";
+    private static final String UPDATED_AT_FIELD = "updatedAt";
+
+    private final OrderStatusRepository repository;
+    private final MongoTemplate mongoTemplate;
+    private final Cache<String, OrderStatus> hotSet;
+
+    public OrderStatusService(OrderStatusRepository repository,
+                              MongoTemplate mongoTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${order.status-cache.max-size}") long maxSize,
+                              @Value("${order.status-cache.ttl}") Duration ttl) {
+        this.repository = repository;
+        this.mongoTemplate = mongoTemplate;
+        this.hotSet = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, hotSet, CACHE_NAME);
+    }
+
+    public OrderStatus findByFilters(EventFilters filters) {
+        if (!ObjectUtils.isEmpty(filters.getOrderId())) {
+            return findByOrderId(filters.getOrderId())
+                    .orElseThrow(() -> new ValidationException("Order status not found by orderID."));
+        }
+        if (!ObjectUtils.isEmpty(filters.getTransactionId())) {
+            return repository.findByTransactionId(filters.getTransactionId())
+                    .orElseThrow(() -> new ValidationException("Order status not found by transactionID."));
+        }
+        throw new ValidationException("OrderID or TransactionID must be informed.");
+    }
+
+    public void onStarted(List<Event> events) {
+        apply(events, (event, now) -> new Update()
+                .setOnInsert(TRANSACTION_ID_FIELD, event.getTransactionId())
+                .setOnInsert(STATUS_FIELD, PENDING_STATUS)
+                .setOnInsert(SOURCE_FIELD, event.getSource())
+                .setOnInsert(CREATED_AT_FIELD, now)
+                .setOnInsert(UPDATED_AT_FIELD, now));
+    }
+
+    public void onFinished(List<Event> events) {
+        apply(events, (event, now) -> {
+            final Update update = new Update()
+                    .set(TRANSACTION_ID_FIELD, event.getTransactionId())
+                    .set(STATUS_FIELD, event.getStatus())
+                    .set(SOURCE_FIELD, event.getSource())
+                    .set(UPDATED_AT_FIELD, now)
+                    .setOnInsert(CREATED_AT_FIELD, now);
+            if (!ObjectUtils.isEmpty(event.getPayload())) {
+                update.set(TOTAL_AMOUNT_FIELD, event.getPayload().getTotalAmount());
+            }
+            return update;
+        });
+    }
+
+    public void onCompleted(Event event) {
+        if (!ObjectUtils.isEmpty(event.getOrderId())) {
+            hotSet.invalidate(event.getOrderId());
+        }
+    }
+
+    private Optional<OrderStatus> findByOrderId(String orderId) {
+        final OrderStatus cached = hotSet.getIfPresent(orderId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        final Optional<OrderStatus> status = repository.findById(orderId);
+        status.filter(found -> !PENDING_STATUS.equals(found.getStatus()))
+                .ifPresent(found -> hotSet.put(orderId, found));
+        return status;
+    }
+
+    private void apply(List<Event> events, BiFunction<Event, LocalDateTime, Update> toUpdate) {
+        if (events.isEmpty()) {
+            return;
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        final BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OrderStatus.class);
+        events.forEach(event -> bulkOperations.upsert(
+                Query.query(Criteria.where(ID_FIELD).is(event.getOrderId())),
+                toUpdate.apply(event, now)));
+        bulkOperations.execute();
+        events.forEach(event -> hotSet.invalidate(event.getOrderId()));
+    }
+}
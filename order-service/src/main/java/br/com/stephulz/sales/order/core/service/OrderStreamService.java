@@ -0,0 +1,182 @@
+package br.com.microservices.orchestrated.authservice.core.service;
+
+import br.com.microservices.orchestrated.authservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import br.com.microservices.orchestrated.authservice.core.document.History;
+import br.com.microservices.orchestrated.authservice.core.document.OrderSnapshot;
+import br.com.microservices.orchestrated.authservice.core.document.OrderStreamEntry;
+import br.com.microservices.orchestrated.authservice.core.repository.OrderSnapshotRepository;
+import br.com.microservices.orchestrated.authservice.core.repository.OrderStreamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class OrderStreamService {
+    private static final String ENTRY_ID_PATTERN = "%s:%s";
+    private static final String ID_FIELD = "_id";
+    private static final String PENDING_STATUS = "PENDING";
+    private static final String ORDER_CREATED_MESSAGE = "Order created!";
+    private static final long START_SEQUENCE = 0;
+
+    private final OrderStreamRepository streamRepository;
+    private final OrderSnapshotRepository snapshotRepository;
+    private final MongoTemplate mongoTemplate;
+    private final int snapshotEvery;
+
+    public OrderStreamService(OrderStreamRepository streamRepository,
+                              OrderSnapshotRepository snapshotRepository,
+                              MongoTemplate mongoTemplate,
+                              @Value("${order.stream.snapshot-every}") int snapshotEvery) {
+        this.streamRepository = streamRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    public void appendStarted(List<Event> events) {
+        final Map<String, List<OrderStreamEntry>> entries = new LinkedHashMap<>();
+        events.forEach(event -> entries.put(event.getOrderId(), List.of(OrderStreamEntry.builder()
+                .id(entryId(event.getOrderId(), START_SEQUENCE))
+                .orderId(event.getOrderId())
+                .sequence(START_SEQUENCE)
+                .transactionId(event.getTransactionId())
+                .status(PENDING_STATUS)
+                .message(ORDER_CREATED_MESSAGE)
+                .totalAmount(event.getPayload() == null ? null : event.getPayload().getTotalAmount())
+                .totalItems(event.getPayload() == null ? null : event.getPayload().getTotalItems())
+                .createdAt(event.getCreatedAt())
+                .build())));
+        append(entries);
+    }
+
+    public void appendFinished(List<Event> events) {
+        final Map<String, List<OrderStreamEntry>> entries = new LinkedHashMap<>();
+        events.forEach(event -> entries.put(event.getOrderId(), toEntries(event)));
+        append(entries);
+    }
+
+    public OrderSnapshot findState(String orderId) {
+        final OrderSnapshot state = snapshotRepository.findById(orderId).orElseGet(() -> emptyState(orderId));
+        final List<OrderStreamEntry> tail = streamRepository
+                .findByOrderIdAndSequenceGreaterThanOrderBySequenceAsc(orderId, state.getSequence());
+        if (state.getSequence() < START_SEQUENCE && tail.isEmpty()) {
+            throw new ValidationException("Order stream not found by orderID.");
+        }
+        tail.forEach(entry -> apply(state, entry));
+        return state;
+    }
+
+    public List<OrderStreamEntry> findTimeline(String orderId) {
+        return streamRepository.findByOrderIdOrderBySequenceAsc(orderId);
+    }
+
+    private void append(Map<String, List<OrderStreamEntry>> entriesByOrder) {
+        if (entriesByOrder.isEmpty()) {
+            return;
+        }
+        final BulkOperations streamOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OrderStreamEntry.class);
+        entriesByOrder.values().forEach(entries -> entries.forEach(entry -> streamOperations.replaceOne(
+                Query.query(Criteria.where(ID_FIELD).is(entry.getId())), entry, FindAndReplaceOptions.options().upsert())));
+        streamOperations.execute();
+        writeSnapshots(entriesByOrder);
+    }
+
+    private void writeSnapshots(Map<String, List<OrderStreamEntry>> entriesByOrder) {
+        final Map<String, OrderSnapshot> snapshots = snapshotRepository
+                .findAllById(entriesByOrder.keySet())
+                .stream()
+                .collect(Collectors.toMap(OrderSnapshot::getOrderId, Function.identity()));
+        final List<OrderSnapshot> changed = new ArrayList<>();
+        entriesByOrder.forEach((orderId, entries) -> {
+            final OrderSnapshot state = snapshots.getOrDefault(orderId, emptyState(orderId));
+            final long previousSequence = state.getSequence();
+            final long lastSequence = entries.stream().mapToLong(OrderStreamEntry::getSequence).max().orElse(previousSequence);
+            if (crossedSnapshotBoundary(previousSequence, lastSequence)) {
+                streamRepository
+                        .findByOrderIdAndSequenceGreaterThanOrderBySequenceAsc(orderId, previousSequence)
+                        .forEach(entry -> apply(state, entry));
+                changed.add(state);
+            }
+        });
+        if (!changed.isEmpty()) {
+            snapshotRepository.saveAll(changed);
+            log.debug("Wrote {} order snapshots", changed.size());
+        }
+    }
+
+    private boolean crossedSnapshotBoundary(long previousSequence, long sequence) {
+        return (sequence + 1) / snapshotEvery > (previousSequence + 1) / snapshotEvery;
+    }
+
+    private List<OrderStreamEntry> toEntries(Event event) {
+        final List<History> history = ObjectUtils.isEmpty(event.getEventHistory())
+                ? List.of(History.builder().source(event.getSource()).status(event.getStatus()).createdAt(event.getCreatedAt()).build())
+                : event.getEventHistory();
+        final List<OrderStreamEntry> entries = new ArrayList<>(history.size());
+        for (int index = 0; index < history.size(); index++) {
+            final History step = history.get(index);
+            final long sequence = START_SEQUENCE + index + 1;
+            entries.add(OrderStreamEntry.builder()
+                    .id(entryId(event.getOrderId(), sequence))
+                    .orderId(event.getOrderId())
+                    .sequence(sequence)
+                    .transactionId(event.getTransactionId())
+                    .source(step.getSource())
+                    .status(step.getStatus())
+                    .message(step.getMessage())
+                    .createdAt(step.getCreatedAt())
+                    .build());
+        }
+        final OrderStreamEntry last = entries.getLast();
+        last.setStatus(event.getStatus());
+        if (!ObjectUtils.isEmpty(event.getPayload())) {
+            last.setTotalAmount(event.getPayload().getTotalAmount());
+            last.setTotalItems(event.getPayload().getTotalItems());
+        }
+        return entries;
+    }
+
+    private void apply(OrderSnapshot state, OrderStreamEntry entry) {
+        state.setSequence(entry.getSequence());
+        state.setTransactionId(entry.getTransactionId());
+        if (!ObjectUtils.isEmpty(entry.getSource())) {
+            state.setSource(entry.getSource());
+        }
+        if (!ObjectUtils.isEmpty(entry.getStatus())) {
+            state.setStatus(entry.getStatus());
+        }
+        if (entry.getTotalAmount() != null) {
+            state.setTotalAmount(entry.getTotalAmount());
+        }
+        if (entry.getTotalItems() != null) {
+            state.setTotalItems(entry.getTotalItems());
+        }
+        if (state.getCreatedAt() == null) {
+            state.setCreatedAt(entry.getCreatedAt());
+        }
+        state.setUpdatedAt(entry.getCreatedAt());
+    }
+
+    private OrderSnapshot emptyState(String orderId) {
+        return OrderSnapshot.builder().orderId(orderId).sequence(START_SEQUENCE - 1).build();
+    }
+
+    private String entryId(String orderId, long sequence) {
+        return String.format(ENTRY_ID_PATTERN, orderId, sequence);
+    }
+}
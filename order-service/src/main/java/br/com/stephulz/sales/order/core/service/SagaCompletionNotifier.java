@@ -0,0 +1,130 @@
+package br.com.microservices.orchestrated.authservice.core.service;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class SagaCompletionNotifier {
+    private static final String FINISHED_EVENT_NAME = "saga-finished";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final EventService eventService;
+    private final long timeoutMillis;
+    private final int maxPendingSends;
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SagaCompletionNotifier(EventService eventService,
+                                  @Value("${order.sse.timeout}") Duration timeout,
+                                  @Value("${order.sse.max-pending-sends}") int maxPendingSends) {
+        this.eventService = eventService;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxPendingSends = maxPendingSends;
+    }
+
+    public SseEmitter subscribe(String orderId) {
+        final SseEmitter emitter = new SseEmitter(timeoutMillis);
+        final Subscriber subscriber = new Subscriber(emitter);
+        subscribers.computeIfAbsent(orderId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(orderId, subscriber));
+        emitter.onTimeout(() -> unsubscribe(orderId, subscriber));
+        emitter.onError(ex -> unsubscribe(orderId, subscriber));
+        eventService.findLatestByOrderId(orderId)
+                .filter(this::isFinished)
+                .ifPresent(this::publish);
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    public void publish(Event event) {
+        final Set<Subscriber> emitters = subscribers.remove(event.getOrderId());
+        if (ObjectUtils.isEmpty(emitters)) {
+            return;
+        }
+        emitters.forEach(subscriber -> send(event.getOrderId(), subscriber, emitter -> {
+            emitter.send(SseEmitter.event().name(FINISHED_EVENT_NAME).id(event.getId()).data(event));
+            emitter.complete();
+        }));
+        log.info("Saga completion for order {} handed to {} subscribers", event.getOrderId(), emitters.size());
+    }
+
+    @Scheduled(fixedDelayString = "${order.sse.heartbeat-interval}")
+    public void heartbeat() {
+        subscribers.forEach((orderId, emitters) -> emitters.forEach(subscriber ->
+                send(orderId, subscriber, emitter -> emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT)))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void send(String orderId, Subscriber subscriber, SseSend send) {
+        if (subscriber.pending.incrementAndGet() > maxPendingSends) {
+            log.warn("Dropping subscriber for order {} with {} sends still pending", orderId, maxPendingSends);
+            unsubscribe(orderId, subscriber);
+            executor.execute(subscriber.emitter::complete);
+            return;
+        }
+        subscriber.enqueue(() -> {
+            try {
+                send.send(subscriber.emitter);
+            } catch (IOException | IllegalStateException ex) {
+                unsubscribe(orderId, subscriber);
+                subscriber.emitter.completeWithError(ex);
+            } finally {
+                subscriber.pending.decrementAndGet();
+            }
+        });
+    }
+
+    private boolean isFinished(Event event) {
+        return !ObjectUtils.isEmpty(event.getStatus());
+    }
+
+    private void unsubscribe(String orderId, Subscriber subscriber) {
+        subscribers.computeIfPresent(orderId, (key, emitters) -> {
+            emitters.remove(subscriber);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    @FunctionalInterface
+    private interface SseSend {
+        void send(SseEmitter emitter) throws IOException;
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicInteger pending = new AtomicInteger();
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private synchronized void enqueue(Runnable send) {
+            tail = tail.thenRunAsync(send, executor);
+        }
+    }
+}
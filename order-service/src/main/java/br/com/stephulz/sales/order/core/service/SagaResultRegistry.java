@@ -0,0 +1,46 @@
+package br.com.microservices.orchestrated.authservice.core.service;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class SagaResultRegistry {
+
+    private final Map<String, Set<CompletableFuture<Event>>> pending = new ConcurrentHashMap<>();
+
+    public CompletableFuture<Event> register(String transactionId, Duration timeout) {
+        final CompletableFuture<Event> result = new CompletableFuture<>();
+        pending.compute(transactionId, (key, results) -> {
+            final Set<CompletableFuture<Event>> waiting = results == null ? ConcurrentHashMap.newKeySet() : results;
+            waiting.add(result);
+            return waiting;
+        });
+        return result.completeOnTimeout(null, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((event, ex) -> unregister(transactionId, result));
+    }
+
+    public boolean isPending(String transactionId) {
+        return transactionId != null && pending.containsKey(transactionId);
+    }
+
+    public void complete(Event event) {
+        final Set<CompletableFuture<Event>> results = pending.remove(event.getTransactionId());
+        if (results != null) {
+            results.forEach(result -> result.complete(event));
+        }
+    }
+
+    private void unregister(String transactionId, CompletableFuture<Event> result) {
+        pending.computeIfPresent(transactionId, (key, results) -> {
+            results.remove(result);
+            return results.isEmpty() ? null : results;
+        });
+    }
+}
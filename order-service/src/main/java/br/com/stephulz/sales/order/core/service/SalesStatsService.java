@@ -0,0 +1,216 @@
+package br.com.microservices.orchestrated.authservice.core.service;
+
+import br.com.microservices.orchestrated.authservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import br.com.microservices.orchestrated.authservice.core.document.History;
+import br.com.microservices.orchestrated.authservice.core.document.SalesStatsBucket;
+import br.com.microservices.orchestrated.authservice.core.dto.SalesStats;
+import br.com.microservices.orchestrated.authservice.core.repository.SalesStatsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ObjectUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class SalesStatsService {
+    private static final String SUCCESS_STATUS = "SUCCESS";
+    private static final String FAIL_STATUS = "FAIL";
+    private static final String ORCHESTRATOR_SOURCE = "ORCHESTRATOR";
+    private static final String UNKNOWN_SOURCE = "UNKNOWN";
+    private static final String ID_FIELD = "_id";
+    private static final String COUNT_FIELD = "count";
+    private static final String SUCCESS_FIELD = "success";
+    private static final String FAIL_FIELD = "fail";
+    private static final String TOTAL_AMOUNT_FIELD = "totalAmount";
+    private static final String TOTAL_ITEMS_FIELD = "totalItems";
+    private static final String FAILURES_BY_SOURCE_FIELD = "failuresBySource.";
+
+    private final SalesStatsRepository repository;
+    private final MongoTemplate mongoTemplate;
+    private final int retentionMinutes;
+    private final SalesStatsBucket[] buckets;
+    private Map<Long, SalesStatsBucket> pendingDeltas = new HashMap<>();
+
+    public SalesStatsService(SalesStatsRepository repository,
+                             MongoTemplate mongoTemplate,
+                             @Value("${order.stats.retention}") Duration retention) {
+        this.repository = repository;
+        this.mongoTemplate = mongoTemplate;
+        this.retentionMinutes = (int) retention.toMinutes();
+        this.buckets = new SalesStatsBucket[retentionMinutes];
+    }
+
+    @PostConstruct
+    public void restore() {
+        final List<SalesStatsBucket> stored = repository.findByEpochMinuteGreaterThanEqual(
+                currentMinute() - retentionMinutes + 1);
+        synchronized (this) {
+            stored.forEach(bucket -> {
+                final SalesStatsBucket pending = pendingDeltas.get(bucket.getEpochMinute());
+                if (pending != null) {
+                    add(bucket, pending);
+                }
+                buckets[slot(bucket.getEpochMinute())] = bucket;
+            });
+        }
+    }
+
+    public synchronized void record(List<Event> events) {
+        final long minute = currentMinute();
+        final SalesStatsBucket bucket = bucketFor(minute);
+        final SalesStatsBucket delta = pendingDeltas.computeIfAbsent(minute, key -> emptyBucket(minute));
+        events.forEach(event -> {
+            apply(bucket, event);
+            apply(delta, event);
+        });
+    }
+
+    public synchronized SalesStats findByWindow(String window) {
+        final Duration duration = parseWindow(window);
+        final long toMinute = currentMinute();
+        final long fromMinute = toMinute - duration.toMinutes() + 1;
+        final SalesStats stats = SalesStats.builder()
+                .window(window)
+                .from(Instant.ofEpochSecond(TimeUnit.MINUTES.toSeconds(fromMinute)))
+                .to(Instant.ofEpochSecond(TimeUnit.MINUTES.toSeconds(toMinute + 1)))
+                .failuresBySource(new HashMap<>())
+                .build();
+        for (long minute = fromMinute; minute <= toMinute; minute++) {
+            final SalesStatsBucket bucket = buckets[slot(minute)];
+            if (bucket == null || bucket.getEpochMinute() != minute) {
+                continue;
+            }
+            stats.setCount(stats.getCount() + bucket.getCount());
+            stats.setSuccess(stats.getSuccess() + bucket.getSuccess());
+            stats.setFail(stats.getFail() + bucket.getFail());
+            stats.setTotalAmount(stats.getTotalAmount() + bucket.getTotalAmount());
+            stats.setTotalItems(stats.getTotalItems() + bucket.getTotalItems());
+            bucket.getFailuresBySource().forEach((source, fails) -> stats.getFailuresBySource().merge(source, fails, Long::sum));
+        }
+        stats.setFailureRate(stats.getCount() == 0 ? 0.0 : (double) stats.getFail() / stats.getCount());
+        return stats;
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${order.stats.checkpoint-interval}")
+    public void checkpoint() {
+        final Map<Long, SalesStatsBucket> deltas;
+        synchronized (this) {
+            deltas = pendingDeltas;
+            pendingDeltas = new HashMap<>();
+        }
+        if (!deltas.isEmpty()) {
+            try {
+                final BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SalesStatsBucket.class);
+                deltas.values().forEach(delta -> bulkOperations.upsert(
+                        Query.query(Criteria.where(ID_FIELD).is(delta.getEpochMinute())), increments(delta)));
+                bulkOperations.execute();
+                log.debug("Checkpointed {} sales stats buckets", deltas.size());
+            } catch (RuntimeException ex) {
+                synchronized (this) {
+                    deltas.forEach((minute, delta) -> add(pendingDeltas.computeIfAbsent(minute, this::emptyBucket), delta));
+                }
+                log.error("Error checkpointing sales stats, deltas will be retried", ex);
+                return;
+            }
+        }
+        restore();
+    }
+
+    private Update increments(SalesStatsBucket delta) {
+        final Update update = new Update()
+                .inc(COUNT_FIELD, delta.getCount())
+                .inc(SUCCESS_FIELD, delta.getSuccess())
+                .inc(FAIL_FIELD, delta.getFail())
+                .inc(TOTAL_AMOUNT_FIELD, delta.getTotalAmount())
+                .inc(TOTAL_ITEMS_FIELD, delta.getTotalItems());
+        delta.getFailuresBySource().forEach((source, fails) -> update.inc(FAILURES_BY_SOURCE_FIELD.concat(source), fails));
+        return update;
+    }
+
+    private SalesStatsBucket bucketFor(long minute) {
+        final int slot = slot(minute);
+        if (buckets[slot] == null || buckets[slot].getEpochMinute() != minute) {
+            buckets[slot] = emptyBucket(minute);
+        }
+        return buckets[slot];
+    }
+
+    private SalesStatsBucket emptyBucket(long minute) {
+        return SalesStatsBucket.builder().epochMinute(minute).build();
+    }
+
+    private void apply(SalesStatsBucket bucket, Event event) {
+        bucket.setCount(bucket.getCount() + 1);
+        if (!ObjectUtils.isEmpty(event.getPayload())) {
+            bucket.setTotalAmount(bucket.getTotalAmount() + event.getPayload().getTotalAmount());
+            bucket.setTotalItems(bucket.getTotalItems() + event.getPayload().getTotalItems());
+        }
+        if (SUCCESS_STATUS.equals(event.getStatus())) {
+            bucket.setSuccess(bucket.getSuccess() + 1);
+        } else if (FAIL_STATUS.equals(event.getStatus())) {
+            bucket.setFail(bucket.getFail() + 1);
+            bucket.getFailuresBySource().merge(failingSource(event), 1L, Long::sum);
+        }
+    }
+
+    private void add(SalesStatsBucket bucket, SalesStatsBucket delta) {
+        bucket.setCount(bucket.getCount() + delta.getCount());
+        bucket.setSuccess(bucket.getSuccess() + delta.getSuccess());
+        bucket.setFail(bucket.getFail() + delta.getFail());
+        bucket.setTotalAmount(bucket.getTotalAmount() + delta.getTotalAmount());
+        bucket.setTotalItems(bucket.getTotalItems() + delta.getTotalItems());
+        delta.getFailuresBySource().forEach((source, fails) -> bucket.getFailuresBySource().merge(source, fails, Long::sum));
+    }
+
+    private String failingSource(Event event) {
+        if (ObjectUtils.isEmpty(event.getEventHistory())) {
+            return UNKNOWN_SOURCE;
+        }
+        return event.getEventHistory()
+                .stream()
+                .filter(history -> !ORCHESTRATOR_SOURCE.equals(history.getSource()))
+                .filter(history -> !SUCCESS_STATUS.equals(history.getStatus()))
+                .map(History::getSource)
+                .findFirst()
+                .orElse(UNKNOWN_SOURCE);
+    }
+
+    private Duration parseWindow(String window) {
+        final Duration duration;
+        try {
+            duration = DurationStyle.detectAndParse(window);
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Window must be a duration such as 5m or PT1H.");
+        }
+        if (duration.toMinutes() < 1 || duration.toMinutes() > retentionMinutes) {
+            throw new ValidationException(String.format("Window must be between 1m and %sm.", retentionMinutes));
+        }
+        return duration;
+    }
+
+    private int slot(long minute) {
+        return (int) Math.floorMod(minute, (long) retentionMinutes);
+    }
+
+    private static long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.microservices.orchestrated.authservice.core.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final double LN2_SQUARED = Math.log(2) * Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final AtomicLong insertions = new AtomicLong();
+    private final int bitCount;
+    private final int hashCount;
+    private final long expectedInsertions;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        final double optimalBits = -expectedInsertions * Math.log(falsePositiveRate) / LN2_SQUARED;
+        this.bitCount = (int) Math.max(Long.SIZE, Math.min(Integer.MAX_VALUE - Long.SIZE, optimalBits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public boolean mightContain(String value) {
+        final long hash = hash(value);
+        for (int index = 0; index < hashCount; index++) {
+            final int bit = bitIndex(hash, index);
+            if ((bits.get(bit / Long.SIZE) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String value) {
+        if (insertions.incrementAndGet() > expectedInsertions) {
+            clear();
+        }
+        final long hash = hash(value);
+        for (int index = 0; index < hashCount; index++) {
+            final int bit = bitIndex(hash, index);
+            final long mask = 1L << bit;
+            bits.getAndUpdate(bit / Long.SIZE, word -> word | mask);
+        }
+    }
+
+    private void clear() {
+        insertions.set(0);
+        for (int index = 0; index < bits.length(); index++) {
+            bits.set(index, 0);
+        }
+    }
+
+    private int bitIndex(long hash, int index) {
+        final int combined = (int) hash + index * (int) (hash >>> Integer.SIZE);
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte current : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= current;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
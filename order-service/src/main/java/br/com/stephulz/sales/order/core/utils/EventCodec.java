@@ -0,0 +1,70 @@
+package br.com.microservices.orchestrated.authservice.core.utils;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import br.com.microservices.orchestrated.authservice.core.enums.EEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+public class EventCodec {
+    private static final byte SMILE_VERSION = 1;
+
+    private final JsonUtil jsonUtil;
+    private final ObjectMapper smileMapper;
+    private final EEventCodec codec;
+
+    public EventCodec(JsonUtil jsonUtil,
+                      ObjectMapper objectMapper,
+                      @Value("${spring.kafka.codec}") EEventCodec codec) {
+        this.jsonUtil = jsonUtil;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.codec = codec;
+    }
+
+    public byte[] encode(Object event) {
+        if (EEventCodec.SMILE.equals(codec)) {
+            return toSmile(event);
+        }
+        return jsonUtil.toJson(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public Event decode(byte[] data) {
+        if (isSmile(data)) {
+            return fromSmile(data);
+        }
+        return jsonUtil.toEvent(new String(data, StandardCharsets.UTF_8));
+    }
+
+    private boolean isSmile(byte[] data) {
+        return data.length > 0 && data[0] == SMILE_VERSION;
+    }
+
+    private byte[] toSmile(Object event) {
+        try {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            output.write(SMILE_VERSION);
+            smileMapper.writeValue(output, event);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error encoding event to smile", e);
+        }
+    }
+
+    private Event fromSmile(byte[] data) {
+        try {
+            return smileMapper.readValue(data, 1, data.length - 1, Event.class);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return null;
+        }
+    }
+}
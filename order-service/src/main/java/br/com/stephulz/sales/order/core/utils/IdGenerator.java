@@ -0,0 +1,55 @@
+package br.com.microservices.orchestrated.authservice.core.utils;
+
+import br.com.microservices.orchestrated.authservice.core.enums.EIdStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class IdGenerator {
+    private static final String LEGACY_TRANSACTION_ID_PATTERN = "%s_%s";
+    private static final char[] CROCKFORD_BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ULID_LENGTH = 26;
+    private static final int SEQUENCE_BITS = 16;
+
+    private final EIdStrategy strategy;
+    private final AtomicLong lastHigh = new AtomicLong();
+
+    public IdGenerator(@Value("${order.id.strategy}") EIdStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public String nextTransactionId() {
+        if (EIdStrategy.LEGACY.equals(strategy)) {
+            return String.format(LEGACY_TRANSACTION_ID_PATTERN, Instant.now().toEpochMilli(), UUID.randomUUID());
+        }
+        return nextUlid();
+    }
+
+    public String nextDocumentId() {
+        if (EIdStrategy.LEGACY.equals(strategy)) {
+            return null;
+        }
+        return nextUlid();
+    }
+
+    private String nextUlid() {
+        final long timestamp = System.currentTimeMillis() << SEQUENCE_BITS;
+        final long high = lastHigh.updateAndGet(previous -> timestamp > previous ? timestamp : previous + 1);
+        return encode(high, ThreadLocalRandom.current().nextLong());
+    }
+
+    private static String encode(long high, long low) {
+        final char[] chars = new char[ULID_LENGTH];
+        for (int index = ULID_LENGTH - 1; index >= 0; index--) {
+            chars[index] = CROCKFORD_BASE32[(int) (low & 0x1F)];
+            low = (low >>> 5) | (high << 59);
+            high >>>= 5;
+        }
+        return new String(chars);
+    }
+}
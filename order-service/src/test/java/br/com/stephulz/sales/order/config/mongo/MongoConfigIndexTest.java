@@ -0,0 +1,265 @@
+package br.com.microservices.orchestrated.authservice.config.mongo;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import br.com.microservices.orchestrated.authservice.core.document.Order;
+import br.com.microservices.orchestrated.authservice.core.document.OrderStatus;
+import br.com.microservices.orchestrated.authservice.core.document.OrderStreamEntry;
+import br.com.microservices.orchestrated.authservice.core.dto.EventStreamFilters;
+import br.com.microservices.orchestrated.authservice.core.repository.EventRepository;
+import br.com.microservices.orchestrated.authservice.core.repository.OrderRepository;
+import br.com.microservices.orchestrated.authservice.core.repository.OrderStatusRepository;
+import br.com.microservices.orchestrated.authservice.core.repository.OrderStreamRepository;
+import br.com.microservices.orchestrated.authservice.core.repository.SalesStatsRepository;
+import br.com.microservices.orchestrated.authservice.core.service.EventArchiveService;
+import br.com.microservices.orchestrated.authservice.core.service.EventService;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static br.com.microservices.orchestrated.authservice.core.enums.EOutboxStatus.PENDING;
+import static br.com.microservices.orchestrated.authservice.core.enums.EOutboxStatus.PUBLISHED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers(disabledWithoutDocker = true)
+class MongoConfigIndexTest {
+
+    private static final Set<String> COMMAND_METADATA = Set.of("$db", "lsid", "$clusterTime", "$readPreference", "apiVersion");
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private static final List<BsonDocument> FIND_COMMANDS = new CopyOnWriteArrayList<>();
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+    private static EventRepository eventRepository;
+    private static OrderRepository orderRepository;
+    private static OrderStatusRepository orderStatusRepository;
+    private static OrderStreamRepository orderStreamRepository;
+    private static SalesStatsRepository salesStatsRepository;
+    private static EventArchiveService eventArchiveService;
+    private static EventService eventService;
+
+    @BeforeAll
+    static void setUp() {
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(MONGO.getConnectionString()))
+                .addCommandListener(new CommandListener() {
+                    @Override
+                    public void commandStarted(CommandStartedEvent event) {
+                        if ("find".equals(event.getCommandName())) {
+                            FIND_COMMANDS.add(event.getCommand().clone());
+                        }
+                    }
+                })
+                .build());
+        mongoTemplate = new MongoTemplate(client, "order-index-test");
+        new MongoConfig(mongoTemplate).createIndexes();
+
+        final MongoRepositoryFactory factory = new MongoRepositoryFactory(mongoTemplate);
+        eventRepository = factory.getRepository(EventRepository.class);
+        orderRepository = factory.getRepository(OrderRepository.class);
+        orderStatusRepository = factory.getRepository(OrderStatusRepository.class);
+        orderStreamRepository = factory.getRepository(OrderStreamRepository.class);
+        salesStatsRepository = factory.getRepository(SalesStatsRepository.class);
+        eventArchiveService = new EventArchiveService(mongoTemplate, false, Duration.ZERO, 1, 1, Duration.ZERO);
+        eventService = new EventService(eventRepository, mongoTemplate, null, null, null, eventArchiveService, null);
+        ReflectionTestUtils.setField(eventService, "streamBatchSize", 100);
+
+        seed();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        client.close();
+    }
+
+    @BeforeEach
+    void clearCommands() {
+        FIND_COMMANDS.clear();
+    }
+
+    @Test
+    void shouldScanIndexWhenListingAllEventsNewestFirst() {
+        eventRepository.findAllByOrderByCreatedAtDesc();
+
+        assertIndexScanWithoutSort();
+    }
+
+    @Test
+    void shouldScanIndexForLatestEventByOrderId() {
+        eventRepository.findTop1ByOrderIdOrderByCreatedAtDesc("order-1");
+
+        assertIndexScanWithoutSort();
+    }
+
+    @Test
+    void shouldScanIndexForLatestEventByTransactionId() {
+        eventRepository.findTop1ByTransactionIdOrderByCreatedAtDesc("transaction-1");
+
+        assertIndexScanWithoutSort();
+    }
+
+    @Test
+    void shouldScanIndexForFirstEventStreamPage() {
+        try (Stream<Event> events = eventService.streamByCursor(new EventStreamFilters(null, null, 50, true))) {
+            assertEquals(50, events.count());
+        }
+
+        assertIndexScanWithoutSort();
+    }
+
+    @Test
+    void shouldScanIndexForNextEventStreamPage() {
+        final EventStreamFilters filters = new EventStreamFilters(NOW.minusMinutes(100), "event-100", 50, false);
+        try (Stream<Event> events = eventService.streamByCursor(filters)) {
+            assertEquals(50, events.count());
+        }
+
+        assertIndexScanWithoutSort();
+    }
+
+    @Test
+    void shouldScanIndexForArchivedEventByOrderId() {
+        eventArchiveService.findLatest("orderId", "order-1");
+
+        assertIndexScanWithoutSort();
+    }
+
+    @Test
+    void shouldScanIndexForPendingOutboxOrders() {
+        orderRepository.findByOutboxStatusOrderByCreatedAtAsc(PENDING, PageRequest.of(0, 500));
+
+        assertIndexScanWithoutSort();
+    }
+
+    @Test
+    void shouldScanIndexForIdempotencyKey() {
+        orderRepository.findByIdempotencyKey("key-1");
+
+        assertIndexScanWithoutSort();
+    }
+
+    @Test
+    void shouldScanIndexForOrderStreamReplay() {
+        orderStreamRepository.findByOrderIdOrderBySequenceAsc("order-1");
+
+        assertIndexScanWithoutSort();
+    }
+
+    @Test
+    void shouldScanIndexForOrderStreamTail() {
+        orderStreamRepository.findByOrderIdAndSequenceGreaterThanOrderBySequenceAsc("order-1", 4);
+
+        assertIndexScanWithoutSort();
+    }
+
+    @Test
+    void shouldScanIndexForOrderStatusByTransactionId() {
+        orderStatusRepository.findByTransactionId("transaction-1");
+
+        assertIndexScanWithoutSort();
+    }
+
+    @Test
+    void shouldScanIndexForRecentSalesStatsBuckets() {
+        salesStatsRepository.findByEpochMinuteGreaterThanEqual(1_000L);
+
+        assertIndexScanWithoutSort();
+    }
+
+    private static void seed() {
+        mongoTemplate.insertAll(IntStream.range(0, 500)
+                .mapToObj(index -> Event.builder()
+                        .id("event-" + index)
+                        .orderId("order-" + index % 50)
+                        .transactionId("transaction-" + index % 50)
+                        .createdAt(NOW.minusMinutes(index))
+                        .build())
+                .toList());
+        mongoTemplate.insert(IntStream.range(0, 50)
+                .mapToObj(index -> Event.builder()
+                        .id("archived-" + index)
+                        .orderId("order-" + index)
+                        .createdAt(NOW.minusDays(30))
+                        .build())
+                .toList(), EventArchiveService.ARCHIVE_COLLECTION);
+        mongoTemplate.insertAll(IntStream.range(0, 200)
+                .mapToObj(index -> Order.builder()
+                        .id("order-" + index)
+                        .idempotencyKey("key-" + index)
+                        .outboxStatus(index % 10 == 0 ? PENDING : PUBLISHED)
+                        .createdAt(NOW.minusSeconds(index))
+                        .build())
+                .toList());
+        mongoTemplate.insertAll(IntStream.range(0, 200)
+                .mapToObj(index -> OrderStatus.builder()
+                        .orderId("order-" + index)
+                        .transactionId("transaction-" + index)
+                        .build())
+                .toList());
+        mongoTemplate.insertAll(IntStream.range(0, 200)
+                .mapToObj(index -> OrderStreamEntry.builder()
+                        .id("stream-" + index)
+                        .orderId("order-" + index % 20)
+                        .sequence(index / 20)
+                        .build())
+                .toList());
+    }
+
+    private void assertIndexScanWithoutSort() {
+        assertFalse(FIND_COMMANDS.isEmpty(), "the repository did not issue a find command");
+        final BsonDocument find = FIND_COMMANDS.getLast().clone();
+        COMMAND_METADATA.forEach(find::remove);
+        final Document explain = mongoTemplate.getDb().runCommand(new BsonDocument("explain", find)
+                .append("verbosity", new BsonString("queryPlanner")));
+        final Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+        final List<String> stages = stages(winningPlan.containsKey("queryPlan")
+                ? winningPlan.get("queryPlan", Document.class)
+                : winningPlan, new ArrayList<>());
+        final String plan = find.toJson() + " -> " + winningPlan.toJson();
+        assertTrue(stages.contains("IXSCAN") || stages.contains("IDHACK"), plan);
+        assertFalse(stages.contains("COLLSCAN"), plan);
+        assertFalse(stages.contains("SORT"), plan);
+    }
+
+    private List<String> stages(Document stage, List<String> stages) {
+        stages.add(stage.getString("stage"));
+        if (stage.containsKey("inputStage")) {
+            stages(stage.get("inputStage", Document.class), stages);
+        }
+        if (stage.containsKey("inputStages")) {
+            stage.getList("inputStages", Document.class).forEach(input -> stages(input, stages));
+        }
+        return stages;
+    }
+}
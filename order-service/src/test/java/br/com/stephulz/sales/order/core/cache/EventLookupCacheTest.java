@@ -0,0 +1,73 @@
+package br.com.microservices.orchestrated.authservice.core.cache;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventLookupCacheTest {
+
+    private static final String ORDER_ID = "order";
+    private static final String TRANSACTION_ID = "transaction";
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Function<String, Optional<Event>> missingLoader = id -> {
+        loads.incrementAndGet();
+        return Optional.empty();
+    };
+
+    @Test
+    void shouldCacheMissesUntilNegativeTtlExpires() throws Exception {
+        final EventLookupCache cache = cache(Duration.ofMillis(50));
+
+        assertTrue(cache.getByOrderId(ORDER_ID, missingLoader).isEmpty());
+        assertTrue(cache.getByOrderId(ORDER_ID, missingLoader).isEmpty());
+        assertEquals(1, loads.get());
+
+        Thread.sleep(100);
+
+        assertTrue(cache.getByOrderId(ORDER_ID, missingLoader).isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldReplaceCachedMissWhenEventIsPut() {
+        final EventLookupCache cache = cache(Duration.ofMinutes(1));
+        cache.getByOrderId(ORDER_ID, missingLoader);
+        cache.getByTransactionId(TRANSACTION_ID, missingLoader);
+        final Event event = Event.builder().orderId(ORDER_ID).transactionId(TRANSACTION_ID).build();
+
+        cache.put(event);
+
+        assertSame(event, cache.getByOrderId(ORDER_ID, missingLoader).orElseThrow());
+        assertSame(event, cache.getByTransactionId(TRANSACTION_ID, missingLoader).orElseThrow());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldKeepFoundEventsForFullTtl() throws Exception {
+        final EventLookupCache cache = cache(Duration.ofMillis(50));
+        final Event event = Event.builder().orderId(ORDER_ID).build();
+        cache.getByOrderId(ORDER_ID, id -> {
+            loads.incrementAndGet();
+            return Optional.of(event);
+        });
+
+        Thread.sleep(100);
+
+        assertSame(event, cache.getByOrderId(ORDER_ID, missingLoader).orElseThrow());
+        assertEquals(1, loads.get());
+    }
+
+    private EventLookupCache cache(Duration negativeTtl) {
+        return new EventLookupCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), negativeTtl);
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.microservices.orchestrated.authservice.core.controller;
+
+import br.com.microservices.orchestrated.authservice.config.jackson.JacksonConfig;
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import br.com.microservices.orchestrated.authservice.core.dto.EventStreamFilters;
+import br.com.microservices.orchestrated.authservice.core.service.EventExportService;
+import br.com.microservices.orchestrated.authservice.core.service.EventService;
+import br.com.microservices.orchestrated.authservice.core.service.OrderStatusService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class EventControllerTest {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final EventService eventService = mock(EventService.class);
+    private final EventExportService eventExportService = new EventExportService(objectMapper, Duration.ofSeconds(5));
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new EventController(eventService, mock(OrderStatusService.class), eventExportService))
+            .build();
+
+    @AfterEach
+    void shutdown() {
+        eventExportService.shutdown();
+    }
+
+    @Test
+    void shouldStreamEventsAsNdjson() throws Exception {
+        when(eventService.streamByCursor(any(EventStreamFilters.class))).thenReturn(events(3));
+
+        final List<String> ids = Arrays.stream(export(MediaType.APPLICATION_NDJSON).split("\n"))
+                .map(line -> read(line).get("id").asText())
+                .toList();
+
+        assertEquals(List.of("0", "1", "2"), ids);
+    }
+
+    @Test
+    void shouldStreamEventsAsJsonArray() throws Exception {
+        when(eventService.streamByCursor(any(EventStreamFilters.class))).thenReturn(events(2));
+
+        final JsonNode array = read(export(MediaType.APPLICATION_JSON));
+
+        assertEquals(List.of("0", "1"), List.of(array.get(0).get("id").asText(), array.get(1).get("id").asText()));
+    }
+
+    @Test
+    void shouldStreamEmptyJsonArray() throws Exception {
+        when(eventService.streamByCursor(any(EventStreamFilters.class))).thenReturn(Stream.empty());
+
+        assertEquals("[]", export(MediaType.APPLICATION_JSON));
+    }
+
+    private String export(MediaType mediaType) throws Exception {
+        final MvcResult started = mockMvc.perform(get("/api/event/stream").accept(mediaType))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        started.getAsyncResult(5_000);
+        return mockMvc.perform(asyncDispatch(started)).andReturn().getResponse().getContentAsString();
+    }
+
+    private JsonNode read(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception ex) {
+            throw new AssertionError("Invalid JSON: " + json, ex);
+        }
+    }
+
+    private Stream<Event> events(int count) {
+        return IntStream.range(0, count).mapToObj(index -> Event.builder().id(String.valueOf(index)).build());
+    }
+}
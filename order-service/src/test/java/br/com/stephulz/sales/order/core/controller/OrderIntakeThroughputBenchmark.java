@@ -0,0 +1,156 @@
+package br.com.microservices.orchestrated.authservice.core.controller;
+
+import br.com.microservices.orchestrated.authservice.OrderServiceApplication;
+import br.com.microservices.orchestrated.authservice.core.document.OrderProducts;
+import br.com.microservices.orchestrated.authservice.core.document.Product;
+import br.com.microservices.orchestrated.authservice.core.dto.OrderRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@EmbeddedKafka
+@Testcontainers(disabledWithoutDocker = true)
+class OrderIntakeThroughputBenchmark {
+
+    private static final int ORDERS = 5_000;
+    private static final int BATCH_SIZE = 500;
+    private static final int SINGLE_CALL_CLIENTS = 32;
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void compareBatchEndpointWithSingleCalls(EmbeddedKafkaBroker broker) throws Exception {
+        final StringBuilder report = new StringBuilder(String.format("%n%-8s %10s %12s %14s %16s%n",
+                "mode", "orders", "intake-ms", "published-ms", "orders/second"));
+        run(broker, "warmup", true);
+        report.append(run(broker, "single", false));
+        report.append(run(broker, "batch", true));
+        System.out.println(report);
+    }
+
+    private String run(EmbeddedKafkaBroker broker, String runId, boolean batch) throws Exception {
+        final String startSagaTopic = "start-saga-" + runId;
+        try (ConfigurableApplicationContext context = orderService(broker, runId, startSagaTopic);
+             Consumer<String, byte[]> startSaga = startSagaConsumer(broker, runId)) {
+            final String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/order";
+            startSaga.subscribe(List.of(startSagaTopic));
+            while (startSaga.assignment().isEmpty()) {
+                startSaga.poll(Duration.ofMillis(100));
+            }
+
+            final long start = System.nanoTime();
+            if (batch) {
+                postBatches(baseUrl);
+            } else {
+                postSingles(baseUrl);
+            }
+            final long intakeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            int published = 0;
+            final long deadline = start + TimeUnit.MINUTES.toNanos(5);
+            while (published < ORDERS && System.nanoTime() < deadline) {
+                published += startSaga.poll(Duration.ofMillis(100)).count();
+            }
+            final long publishedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertEquals(ORDERS, published, "timed out in run " + runId);
+            return String.format("%-8s %10d %12d %14d %16.0f%n",
+                    runId, ORDERS, intakeMillis, publishedMillis, ORDERS * 1000.0 / publishedMillis);
+        }
+    }
+
+    private void postBatches(String baseUrl) throws Exception {
+        final byte[] body = objectMapper.writeValueAsBytes(Collections.nCopies(BATCH_SIZE, orderRequest()));
+        for (int sent = 0; sent < ORDERS; sent += BATCH_SIZE) {
+            post(baseUrl + "/batch", body);
+        }
+    }
+
+    private void postSingles(String baseUrl) throws Exception {
+        final byte[] body = objectMapper.writeValueAsBytes(orderRequest());
+        final ExecutorService clients = Executors.newFixedThreadPool(SINGLE_CALL_CLIENTS);
+        try {
+            final List<Future<?>> calls = new ArrayList<>(ORDERS);
+            for (int order = 0; order < ORDERS; order++) {
+                calls.add(clients.submit(() -> {
+                    post(baseUrl, body);
+                    return null;
+                }));
+            }
+            for (Future<?> call : calls) {
+                call.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private void post(String url, byte[] body) throws Exception {
+        final HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        assertEquals(200, response.statusCode());
+    }
+
+    private ConfigurableApplicationContext orderService(EmbeddedKafkaBroker broker, String runId, String startSagaTopic) {
+        return new SpringApplicationBuilder(OrderServiceApplication.class)
+                .run("--server.port=0",
+                        "--spring.mongodb.uri=" + MONGO.getReplicaSetUrl(),
+                        "--spring.mongodb.database=order-" + runId,
+                        "--spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                        "--spring.kafka.topic.start-saga=" + startSagaTopic,
+                        "--spring.kafka.topic.notify-ending=notify-ending-" + runId,
+                        "--logging.level.br.com.microservices=WARN");
+    }
+
+    private Consumer<String, byte[]> startSagaConsumer(EmbeddedKafkaBroker broker, String runId) {
+        return new DefaultKafkaConsumerFactory<String, byte[]>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ConsumerConfig.GROUP_ID_CONFIG, "benchmark-" + runId,
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1000,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class))
+                .createConsumer();
+    }
+
+    private OrderRequest orderRequest() {
+        return new OrderRequest(IntStream.range(0, 3)
+                .mapToObj(index -> new OrderProducts(new Product("PRODUCT_" + index, 10.0 * (index + 1)), index + 1))
+                .toList());
+    }
+}
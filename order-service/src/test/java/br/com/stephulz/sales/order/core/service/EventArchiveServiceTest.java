@@ -0,0 +1,79 @@
+package br.com.microservices.orchestrated.authservice.core.service;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventArchiveServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final Set<String> archiveThreads = ConcurrentHashMap.newKeySet();
+    private final EventArchiveService service = new EventArchiveService(
+            mongoTemplate, true, Duration.ofDays(30), BATCH_SIZE, 10, Duration.ofMillis(50));
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldArchiveBatchesOffTheSchedulerThread() {
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(Event.class), eq(EventArchiveService.ARCHIVE_COLLECTION)))
+                .thenReturn(mock(BulkOperations.class));
+        when(mongoTemplate.find(any(Query.class), eq(Event.class)))
+                .thenAnswer(invocation -> fullBatch())
+                .thenAnswer(invocation -> fullBatch())
+                .thenAnswer(invocation -> {
+                    archiveThreads.add(Thread.currentThread().getName());
+                    return List.of();
+                });
+
+        service.archive();
+
+        verify(mongoTemplate, timeout(5_000).times(3)).find(any(Query.class), eq(Event.class));
+        verify(mongoTemplate, times(2)).remove(any(Query.class), eq(Event.class));
+        assertEquals(Set.of("event-archive"), archiveThreads);
+    }
+
+    @Test
+    void shouldSkipRunWhilePreviousRunIsInProgress() {
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(Event.class), eq(EventArchiveService.ARCHIVE_COLLECTION)))
+                .thenReturn(mock(BulkOperations.class));
+        when(mongoTemplate.find(any(Query.class), eq(Event.class)))
+                .thenAnswer(invocation -> fullBatch())
+                .thenReturn(List.of());
+
+        service.archive();
+        service.archive();
+
+        verify(mongoTemplate, after(500).times(2)).find(any(Query.class), eq(Event.class));
+    }
+
+    private List<Event> fullBatch() {
+        archiveThreads.add(Thread.currentThread().getName());
+        return IntStream.range(0, BATCH_SIZE)
+                .mapToObj(index -> Event.builder().id("event-" + index).build())
+                .toList();
+    }
+}
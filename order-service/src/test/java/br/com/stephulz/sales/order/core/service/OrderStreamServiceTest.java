@@ -0,0 +1,96 @@
+package br.com.microservices.orchestrated.authservice.core.service;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import br.com.microservices.orchestrated.authservice.core.document.History;
+import br.com.microservices.orchestrated.authservice.core.document.OrderSnapshot;
+import br.com.microservices.orchestrated.authservice.core.document.OrderStreamEntry;
+import br.com.microservices.orchestrated.authservice.core.repository.OrderSnapshotRepository;
+import br.com.microservices.orchestrated.authservice.core.repository.OrderStreamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderStreamServiceTest {
+
+    private static final String ORDER_ID = "order";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    private final OrderStreamRepository streamRepository = mock(OrderStreamRepository.class);
+    private final OrderSnapshotRepository snapshotRepository = mock(OrderSnapshotRepository.class);
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final OrderStreamService service = new OrderStreamService(streamRepository, snapshotRepository, mongoTemplate, 5);
+
+    @BeforeEach
+    void setUp() {
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(OrderStreamEntry.class)))
+                .thenReturn(mock(BulkOperations.class));
+        when(snapshotRepository.findAllById(anyIterable())).thenReturn(List.of());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFoldStoredStartEntryIntoFirstSnapshot() {
+        final Event finished = finishedEvent(4);
+        final List<OrderStreamEntry> stored = new ArrayList<>();
+        stored.add(OrderStreamEntry.builder()
+                .orderId(ORDER_ID).sequence(0).status("PENDING").totalAmount(30.0).totalItems(3).createdAt(CREATED_AT)
+                .build());
+        stored.addAll(finishedEntries(4));
+        when(streamRepository.findByOrderIdAndSequenceGreaterThanOrderBySequenceAsc(ORDER_ID, -1)).thenReturn(stored);
+
+        service.appendFinished(List.of(finished));
+
+        final ArgumentCaptor<List<OrderSnapshot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(snapshotRepository).saveAll(saved.capture());
+        final OrderSnapshot snapshot = saved.getValue().getFirst();
+        assertEquals(4, snapshot.getSequence());
+        assertEquals(CREATED_AT, snapshot.getCreatedAt());
+        assertEquals(30.0, snapshot.getTotalAmount());
+        assertEquals(3, snapshot.getTotalItems());
+        assertEquals("SUCCESS", snapshot.getStatus());
+    }
+
+    @Test
+    void shouldNotSnapshotBeforeBoundary() {
+        service.appendFinished(List.of(finishedEvent(2)));
+
+        verify(streamRepository, never()).findByOrderIdAndSequenceGreaterThanOrderBySequenceAsc(anyString(), anyLong());
+        verify(snapshotRepository, never()).saveAll(anyIterable());
+    }
+
+    private Event finishedEvent(int steps) {
+        final List<History> history = new ArrayList<>();
+        for (int step = 1; step <= steps; step++) {
+            history.add(History.builder().source("SERVICE_" + step).status("SUCCESS").createdAt(CREATED_AT.plusMinutes(step)).build());
+        }
+        return Event.builder().orderId(ORDER_ID).transactionId("transaction").status("SUCCESS").eventHistory(history).build();
+    }
+
+    private List<OrderStreamEntry> finishedEntries(int steps) {
+        final List<OrderStreamEntry> entries = new ArrayList<>();
+        for (int step = 1; step <= steps; step++) {
+            entries.add(OrderStreamEntry.builder()
+                    .orderId(ORDER_ID).sequence(step).source("SERVICE_" + step).status("SUCCESS")
+                    .createdAt(CREATED_AT.plusMinutes(step))
+                    .build());
+        }
+        return entries;
+    }
+}
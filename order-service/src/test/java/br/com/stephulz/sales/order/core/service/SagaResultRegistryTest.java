@@ -0,0 +1,42 @@
+package br.com.microservices.orchestrated.authservice.core.service;
+
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SagaResultRegistryTest {
+
+    private static final String TRANSACTION_ID = "transaction";
+
+    private final SagaResultRegistry registry = new SagaResultRegistry();
+
+    @Test
+    void shouldTimeOutEachCallerIndependently() {
+        final CompletableFuture<Event> shortWait = registry.register(TRANSACTION_ID, Duration.ofMillis(10));
+        final CompletableFuture<Event> longWait = registry.register(TRANSACTION_ID, Duration.ofSeconds(30));
+
+        assertNull(shortWait.join());
+        assertTrue(registry.isPending(TRANSACTION_ID));
+        assertFalse(longWait.isDone());
+
+        final Event event = Event.builder().transactionId(TRANSACTION_ID).build();
+        registry.complete(event);
+
+        assertSame(event, longWait.join());
+        assertFalse(registry.isPending(TRANSACTION_ID));
+    }
+
+    @Test
+    void shouldForgetTransactionOnceEveryCallerTimedOut() {
+        registry.register(TRANSACTION_ID, Duration.ofMillis(10)).join();
+
+        assertFalse(registry.isPending(TRANSACTION_ID));
+    }
+}
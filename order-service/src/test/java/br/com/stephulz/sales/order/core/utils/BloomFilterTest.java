@@ -0,0 +1,48 @@
+package br.com.microservices.orchestrated.authservice.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void shouldNeverMissInsertedValues() {
+        final BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        IntStream.range(0, EXPECTED_INSERTIONS).forEach(index -> filter.put("key-" + index));
+
+        IntStream.range(0, EXPECTED_INSERTIONS)
+                .forEach(index -> assertTrue(filter.mightContain("key-" + index), "missing key-" + index));
+    }
+
+    @Test
+    void shouldStayNearConfiguredFalsePositiveRate() {
+        final BloomFilter filter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+        IntStream.range(0, EXPECTED_INSERTIONS).forEach(index -> filter.put("key-" + index));
+
+        final long falsePositives = IntStream.range(0, EXPECTED_INSERTIONS)
+                .filter(index -> filter.mightContain("other-" + index))
+                .count();
+
+        assertTrue(falsePositives < EXPECTED_INSERTIONS * FALSE_POSITIVE_RATE * 3,
+                "false positives: " + falsePositives);
+    }
+
+    @Test
+    void shouldResetOnceExpectedInsertionsAreExceeded() {
+        final BloomFilter filter = new BloomFilter(10, FALSE_POSITIVE_RATE);
+        IntStream.range(0, 10).forEach(index -> filter.put("key-" + index));
+        assertTrue(filter.mightContain("key-0"));
+
+        filter.put("key-10");
+
+        assertTrue(filter.mightContain("key-10"));
+        assertFalse(IntStream.range(0, 10).allMatch(index -> filter.mightContain("key-" + index)));
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.microservices.orchestrated.authservice.core.utils;
+
+import br.com.microservices.orchestrated.authservice.config.mongo.MongoConfig;
+import br.com.microservices.orchestrated.authservice.core.document.Event;
+import br.com.microservices.orchestrated.authservice.core.enums.EIdStrategy;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mongodb.MongoDBContainer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class IdGeneratorInsertRateBenchmark {
+
+    private static final int EVENTS = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    @Test
+    void compareEventInsertRateByIdStrategy() {
+        try (MongoClient client = MongoClients.create(MONGO.getConnectionString())) {
+            final StringBuilder report = new StringBuilder(String.format("%n%-8s %10s %12s %16s%n",
+                    "strategy", "events", "elapsed-ms", "inserts/second"));
+            insert(client, "warmup", EIdStrategy.ULID);
+            for (EIdStrategy strategy : EIdStrategy.values()) {
+                report.append(insert(client, strategy.name(), strategy));
+            }
+            System.out.println(report);
+        }
+    }
+
+    private String insert(MongoClient client, String runId, EIdStrategy strategy) {
+        final MongoTemplate mongoTemplate = new MongoTemplate(client, "order-ids-" + runId.toLowerCase());
+        new MongoConfig(mongoTemplate).createIndexes();
+        final IdGenerator idGenerator = new IdGenerator(strategy);
+
+        final long start = System.nanoTime();
+        for (int inserted = 0; inserted < EVENTS; inserted += BATCH_SIZE) {
+            mongoTemplate.insertAll(events(idGenerator));
+        }
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(EVENTS, mongoTemplate.count(new Query(), Event.class));
+        return String.format("%-8s %10d %12d %16.0f%n", runId, EVENTS, elapsedMillis, EVENTS * 1000.0 / elapsedMillis);
+    }
+
+    private List<Event> events(IdGenerator idGenerator) {
+        final LocalDateTime now = LocalDateTime.now();
+        return IntStream.range(0, BATCH_SIZE)
+                .mapToObj(index -> Event.builder()
+                        .id(idGenerator.nextDocumentId())
+                        .orderId(Optional.ofNullable(idGenerator.nextDocumentId()).orElseGet(() -> new ObjectId().toHexString()))
+                        .transactionId(idGenerator.nextTransactionId())
+                        .createdAt(now)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.microservices.orchestrated.authservice.core.utils;
+
+import br.com.microservices.orchestrated.authservice.core.enums.EIdStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdGeneratorTest {
+
+    private static final String ULID_PATTERN = "[0-9A-HJKMNP-TV-Z]{26}";
+    private static final String LEGACY_PATTERN = "\\d+_[0-9a-f-]{36}";
+
+    @Test
+    void shouldGenerateSortableUlids() {
+        final IdGenerator generator = new IdGenerator(EIdStrategy.ULID);
+        final List<String> ids = new ArrayList<>();
+        IntStream.range(0, 10_000).forEach(index -> ids.add(generator.nextTransactionId()));
+
+        ids.forEach(id -> assertTrue(id.matches(ULID_PATTERN), id));
+        assertEquals(ids.stream().sorted().toList(), ids);
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+    }
+
+    @Test
+    void shouldGenerateUniqueUlidsAcrossThreads() {
+        final IdGenerator generator = new IdGenerator(EIdStrategy.ULID);
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 100_000).parallel().forEach(index -> ids.add(generator.nextDocumentId()));
+
+        assertEquals(100_000, ids.size());
+    }
+
+    @Test
+    void shouldKeepLegacyFormatAndLetMongoAssignDocumentIds() {
+        final IdGenerator generator = new IdGenerator(EIdStrategy.LEGACY);
+
+        assertTrue(generator.nextTransactionId().matches(LEGACY_PATTERN));
+        assertNull(generator.nextDocumentId());
+    }
+}
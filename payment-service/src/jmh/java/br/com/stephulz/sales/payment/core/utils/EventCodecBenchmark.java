@@ -0,0 +1,108 @@
+package br.com.stephulz.sales.payment.core.utils;
+
+import br.com.stephulz.sales.payment.config.jackson.JacksonConfig;
+import br.com.stephulz.sales.payment.core.dto.Event;
+import br.com.stephulz.sales.payment.core.dto.History;
+import br.com.stephulz.sales.payment.core.dto.Order;
+import br.com.stephulz.sales.payment.core.dto.OrderProducts;
+import br.com.stephulz.sales.payment.core.dto.Product;
+import br.com.stephulz.sales.payment.core.enums.EEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static br.com.stephulz.sales.payment.core.enums.ESagaStatus.SUCCESS;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventCodecBenchmark {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Param({"JSON", "SMILE"})
+    private EEventCodec codec;
+    @Param({"1", "10", "50"})
+    private int historySize;
+
+    private EventCodec eventCodec;
+    private ObjectMapper sourceMapper;
+    private byte[] source;
+
+    @Setup
+    public void setUp() throws Exception {
+        final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        eventCodec = new EventCodec(new JsonUtil(objectMapper), objectMapper, codec, false);
+        sourceMapper = EEventCodec.SMILE.equals(codec) ? objectMapper.copyWith(new SmileFactory()) : objectMapper;
+        final byte[] encoded = sourceMapper.writeValueAsBytes(event());
+        source = EEventCodec.SMILE.equals(codec) ? withSmileVersion(encoded) : encoded;
+    }
+
+    @Benchmark
+    public byte[] fullDeserialization() throws Exception {
+        final Event event = EEventCodec.SMILE.equals(codec)
+                ? sourceMapper.readValue(source, 1, source.length - 1, Event.class)
+                : sourceMapper.readValue(source, Event.class);
+        return eventCodec.encode(paid(event));
+    }
+
+    @Benchmark
+    public byte[] historyRewrite() {
+        return eventCodec.encode(paid(eventCodec.decode(source)));
+    }
+
+    private Event paid(Event event) {
+        event.setSource("PAYMENT_SERVICE");
+        event.setStatus(SUCCESS);
+        event.addToHistory(history("Payment realized successfully!"));
+        return event;
+    }
+
+    private Event event() {
+        final List<OrderProducts> products = IntStream.range(0, 3)
+                .mapToObj(index -> new OrderProducts(new Product("PRODUCT_" + index, 10.0 * (index + 1)), index + 1))
+                .toList();
+        return Event.builder()
+                .id("event")
+                .transactionId("transaction")
+                .orderId("order")
+                .source("PRODUCT_VALIDATION_SERVICE")
+                .status(SUCCESS)
+                .createdAt(NOW)
+                .payload(Order.builder().id("order").transactionId("transaction").products(products).createdAt(NOW).build())
+                .eventHistory(new ArrayList<>(IntStream.range(0, historySize)
+                        .mapToObj(index -> history("Step " + index))
+                        .toList()))
+                .build();
+    }
+
+    private History history(String message) {
+        return History.builder().source("ORCHESTRATOR").status(SUCCESS).message(message).createdAt(NOW).build();
+    }
+
+    private byte[] withSmileVersion(byte[] encoded) {
+        final byte[] versioned = new byte[encoded.length + 1];
+        versioned[0] = 1;
+        System.arraycopy(encoded, 0, versioned, 1, encoded.length);
+        return versioned;
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.stephulz.sales.payment.core.utils;
+
+import br.com.stephulz.sales.payment.config.jackson.JacksonConfig;
+import br.com.stephulz.sales.payment.core.dto.Event;
+import br.com.stephulz.sales.payment.core.dto.History;
+import br.com.stephulz.sales.payment.core.dto.Order;
+import br.com.stephulz.sales.payment.core.dto.OrderProducts;
+import br.com.stephulz.sales.payment.core.dto.Product;
+import br.com.stephulz.sales.payment.core.enums.EEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static br.com.stephulz.sales.payment.core.enums.ESagaStatus.SUCCESS;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventWireFormatBenchmark {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Param({"JSON_UTIL", "JSON", "SMILE"})
+    private String format;
+    @Param({"1", "10", "100"})
+    private int products;
+
+    private JsonUtil jsonUtil;
+    private EventCodec eventCodec;
+    private Event event;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        jsonUtil = new JsonUtil(objectMapper);
+        eventCodec = new EventCodec(jsonUtil, objectMapper,
+                "SMILE".equals(format) ? EEventCodec.SMILE : EEventCodec.JSON, true);
+        event = event();
+        encoded = encode();
+        System.out.printf("%n%s with %d products: %d bytes%n", format, products, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        if ("JSON_UTIL".equals(format)) {
+            return jsonUtil.toJson(event).getBytes(StandardCharsets.UTF_8);
+        }
+        return eventCodec.encode(event);
+    }
+
+    @Benchmark
+    public Event decode() {
+        if ("JSON_UTIL".equals(format)) {
+            return jsonUtil.toEvent(new String(encoded, StandardCharsets.UTF_8));
+        }
+        return eventCodec.decode(encoded);
+    }
+
+    private Event event() {
+        final List<OrderProducts> orderProducts = IntStream.range(0, products)
+                .mapToObj(index -> new OrderProducts(new Product("PRODUCT_" + index, 10.0 * (index + 1)), index % 5 + 1))
+                .toList();
+        return Event.builder()
+                .id("event")
+                .transactionId("1767225600000_6f1c2d9e-8a4b-4c3d-9e2f-1a2b3c4d5e6f")
+                .orderId("order")
+                .source("PRODUCT_VALIDATION_SERVICE")
+                .status(SUCCESS)
+                .createdAt(NOW)
+                .payload(Order.builder()
+                        .id("order")
+                        .transactionId("1767225600000_6f1c2d9e-8a4b-4c3d-9e2f-1a2b3c4d5e6f")
+                        .products(orderProducts)
+                        .totalAmount(orderProducts.stream()
+                                .mapToDouble(product -> product.getProduct().getUnitValue() * product.getQuantity())
+                                .sum())
+                        .totalItems(orderProducts.stream().mapToInt(OrderProducts::getQuantity).sum())
+                        .createdAt(NOW)
+                        .build())
+                .eventHistory(new ArrayList<>(List.of(
+                        history("ORCHESTRATOR", "Saga started!"),
+                        history("PRODUCT_VALIDATION_SERVICE", "Products are validated successfully!"))))
+                .build();
+    }
+
+    private History history(String source, String message) {
+        return History.builder().source(source).status(SUCCESS).message(message).createdAt(NOW).build();
+    }
+}
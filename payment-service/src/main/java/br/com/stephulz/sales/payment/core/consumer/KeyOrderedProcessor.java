@@ -0,0 +1,128 @@
+package br.com.stephulz.sales.payment.core.consumer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.BackOffExecution;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class KeyOrderedProcessor {
+
+    private final boolean parallel;
+    private final Semaphore inFlight;
+    private final ExponentialBackOff backOff;
+    private final ConsumerRecordRecoverer recoverer;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, CompletableFuture<Void>> keyTails = new ConcurrentHashMap<>();
+
+    public KeyOrderedProcessor(ConsumerRecordRecoverer recoverer,
+                               @Value("${spring.kafka.listener.parallel.enabled}") boolean parallel,
+                               @Value("${spring.kafka.listener.parallel.max-in-flight}") int maxInFlight,
+                               @Value("${spring.kafka.listener.retry.max-attempts}") int maxAttempts,
+                               @Value("${spring.kafka.listener.retry.backoff}") Duration backoff,
+                               @Value("${spring.kafka.listener.retry.multiplier}") double multiplier) {
+        this.recoverer = recoverer;
+        this.parallel = parallel;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.backOff = new ExponentialBackOff(backoff.toMillis(), multiplier);
+        this.backOff.setMaxAttempts(maxAttempts - 1);
+    }
+
+    public void process(ConsumerRecord<String, byte[]> record,
+                        Acknowledgment acknowledgment,
+                        Function<byte[], CompletableFuture<?>> handler) {
+        if (!parallel) {
+            run(record, acknowledgment, handler).join();
+            return;
+        }
+        inFlight.acquireUninterruptibly();
+        final Supplier<CompletableFuture<Void>> task = () -> run(record, acknowledgment, handler)
+                .whenComplete((result, ex) -> inFlight.release());
+        final String key = record.key();
+        if (key == null) {
+            CompletableFuture.supplyAsync(task, executor);
+            return;
+        }
+        final CompletableFuture<Void> tail = keyTails.compute(key, (k, previous) -> previous == null
+                ? CompletableFuture.supplyAsync(task, executor).thenCompose(Function.identity())
+                : previous.thenComposeAsync(ignored -> task.get(), executor));
+        tail.whenComplete((result, ex) -> keyTails.remove(key, tail));
+    }
+
+    private CompletableFuture<Void> run(ConsumerRecord<String, byte[]> record,
+                                        Acknowledgment acknowledgment,
+                                        Function<byte[], CompletableFuture<?>> handler) {
+        return attempt(record, handler, backOff.start(), 1)
+                .handle((result, ex) -> {
+                    if (ex != null) {
+                        recover(record, unwrap(ex));
+                    }
+                    acknowledgment.acknowledge();
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> attempt(ConsumerRecord<String, byte[]> record,
+                                            Function<byte[], CompletableFuture<?>> handler,
+                                            BackOffExecution execution,
+                                            int attempt) {
+        return invoke(record, handler).exceptionallyCompose(ex -> {
+            final long delay = execution.nextBackOff();
+            if (delay == BackOffExecution.STOP) {
+                return CompletableFuture.failedFuture(ex);
+            }
+            log.warn("Attempt {} failed for record {} from topic {} partition {} offset {}, retrying in {}ms",
+                    attempt, record.key(), record.topic(), record.partition(), record.offset(), delay, unwrap(ex));
+            return CompletableFuture
+                    .runAsync(() -> { }, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor))
+                    .thenCompose(ignored -> attempt(record, handler, execution, attempt + 1));
+        });
+    }
+
+    private CompletableFuture<Void> invoke(ConsumerRecord<String, byte[]> record, Function<byte[], CompletableFuture<?>> handler) {
+        try {
+            return handler.apply(record.value()).thenAccept(result -> { });
+        } catch (Exception ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private void recover(ConsumerRecord<String, byte[]> record, Exception ex) {
+        try {
+            recoverer.accept(record, ex);
+            log.error("Record {} from topic {} partition {} offset {} sent to dead letter topic after retries",
+                    record.key(), record.topic(), record.partition(), record.offset(), ex);
+        } catch (Exception recoveryEx) {
+            log.error("Record {} from topic {} partition {} offset {} could not be dead lettered and was dropped",
+                    record.key(), record.topic(), record.partition(), record.offset(), recoveryEx);
+        }
+    }
+
+    private static Exception unwrap(Throwable ex) {
+        final Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause instanceof Exception exception ? exception : new CompletionException(cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.close();
+    }
+}
@@ -2,36 +2,43 @@ package br.com.stephulz.sales.payment.core.consumer;
 
 import br.com.stephulz.sales.payment.core.dto.Event;
 import br.com.stephulz.sales.payment.core.service.PaymentService;
-import br.com.stephulz.sales.payment.core.utils.JsonUtil;
+import br.com.stephulz.sales.payment.core.utils.EventCodec;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @AllArgsConstructor
 public class PaymentConsumer {
-    private final JsonUtil jsonUtil;
+    private final EventCodec eventCodec;
+    private final KeyOrderedProcessor keyOrderedProcessor;
     private final PaymentService paymentService;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.payment-success}"
     )
-    public void consumeSuccessEvent(String payload) {
-        log.info("Receiving success event {} from payment-success topic", payload);
-        final Event event = jsonUtil.toEvent(payload);
-        paymentService.realizePayment(event);
+    public void consumeSuccessEvent(ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment) {
+        keyOrderedProcessor.process(record, acknowledgment, payload -> {
+            final Event event = eventCodec.decode(payload);
+            log.info("Receiving success event {} from payment-success topic", event);
+            return paymentService.realizePayment(event);
+        });
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.payment-fail}"
     )
-    public void consumeFailEvent(String payload) {
-        log.info("Receiving rollback event {} from payment-fail topic", payload);
-        final Event event = jsonUtil.toEvent(payload);
-        paymentService.realizeRefund(event);
+    public void consumeFailEvent(ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment) {
+        keyOrderedProcessor.process(record, acknowledgment, payload -> {
+            final Event event = eventCodec.decode(payload);
+            log.info("Receiving rollback event {} from payment-fail topic", event);
+            return paymentService.realizeRefund(event);
+        });
     }
 }
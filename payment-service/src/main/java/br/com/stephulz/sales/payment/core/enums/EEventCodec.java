@@ -0,0 +1,6 @@
+package br.com.stephulz.sales.payment.core.enums;
+
+public enum EEventCodec {
+    JSON,
+    SMILE
+}
@@ -1,25 +1,30 @@
 package br.com.stephulz.sales.payment.core.producer;
 
+import br.com.stephulz.sales.payment.core.dto.Event;
+import br.com.stephulz.sales.payment.core.utils.EventCodec;
+import br.com.stephulz.sales.payment.core.utils.EventHeaders;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaProducer {
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaSender kafkaSender;
+    private final EventCodec eventCodec;
     @Value("${spring.kafka.topic.orchestrator}")
     private String orchestratorTopic;
 
-    public void sendEvent(String payload) {
-        try {
-            log.info("Sending event to topic {} with data {}", orchestratorTopic, payload);
-            kafkaTemplate.send(orchestratorTopic, payload);
-        } catch (Exception ex) {
-            log.error("Error {} with cause {} when trying to send data to topic {} with data {}", ex.getMessage(), ex.getCause(), orchestratorTopic, payload);
-        }
+    public CompletableFuture<SendResult<String, byte[]>> sendEvent(Event event) {
+        log.info("Sending event to topic {} with data {}", orchestratorTopic, event);
+        final byte[] payload = eventCodec.encode(event);
+        return kafkaSender.send(new ProducerRecord<>(
+                orchestratorTopic, null, event.getTransactionId(), payload, EventHeaders.from(event)));
     }
 }
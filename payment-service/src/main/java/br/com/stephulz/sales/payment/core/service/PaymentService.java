@@ -9,12 +9,13 @@ import br.com.stephulz.sales.payment.core.enums.ESagaStatus;
 import br.com.stephulz.sales.payment.core.model.Payment;
 import br.com.stephulz.sales.payment.core.producer.KafkaProducer;
 import br.com.stephulz.sales.payment.core.repository.PaymentRepository;
-import br.com.stephulz.sales.payment.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -24,13 +25,15 @@ public class PaymentService {
     private static final Double REDUCE_SUM_VALUE = 0.0;
     private static final Double MIN_AMOUNT_VALUE = 0.1;
 
-    private final JsonUtil jsonUtil;
     private final KafkaProducer producer;
     private final PaymentRepository paymentRepository;
 
-    public void realizePayment(Event event) {
+    public CompletableFuture<SendResult<String, byte[]>> realizePayment(Event event) {
+        if (isAlreadyProcessed(event)) {
+            log.warn("Ignoring duplicated event for transaction {}, its payment was already processed", event.getTransactionId());
+            return CompletableFuture.completedFuture(null);
+        }
         try {
-            checkCurrentValidation(event);
             createPendingPayment(event);
             final Payment payment = findByOrderIdAndTransactionId(event);
             validateAmount(payment.getTotalAmount());
@@ -40,15 +43,12 @@ public class PaymentService {
             log.error("Error trying to realize payment: ", e);
             handleFailCurrentNotExecuted(event, e.getMessage());
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        return producer.sendEvent(event);
     }
 
-    private void checkCurrentValidation(Event event) {
-        if (Boolean.TRUE.equals(paymentRepository
-                .existsByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId()
-                ))) {
-            throw new ValidationException("There's another TransactionID for this validation");
-        }
+    private boolean isAlreadyProcessed(Event event) {
+        return Boolean.TRUE.equals(paymentRepository
+                .existsByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId()));
     }
 
     private void createPendingPayment(Event event) {
@@ -122,7 +122,7 @@ public class PaymentService {
         addHistory(event, "Fail to realize payment: ".concat(message));
     }
 
-    public void realizeRefund(Event event) {
+    public CompletableFuture<SendResult<String, byte[]>> realizeRefund(Event event) {
         event.setStatus(ESagaStatus.FAIL);
         event.setSource(CURRENT_SOURCE);
         try {
@@ -131,7 +131,7 @@ public class PaymentService {
         } catch (Exception e) {
             addHistory(event, "Rollback not executed on payment: ".concat(e.getMessage()));
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        return producer.sendEvent(event);
     }
 
     private void changePaymentStatusToRefund(Event event) {
@@ -0,0 +1,170 @@
+package br.com.stephulz.sales.payment.core.utils;
+
+import br.com.stephulz.sales.payment.core.dto.Event;
+import br.com.stephulz.sales.payment.core.dto.History;
+import br.com.stephulz.sales.payment.core.enums.EEventCodec;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ObjectUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+public class EventCodec {
+    private static final byte SMILE_VERSION = 1;
+    private static final String EVENT_HISTORY = "eventHistory";
+
+    private final JsonUtil jsonUtil;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final ObjectReader jsonReader;
+    private final ObjectReader smileReader;
+    private final EEventCodec codec;
+    private final boolean deltaHistory;
+
+    public EventCodec(JsonUtil jsonUtil,
+                      ObjectMapper objectMapper,
+                      @Value("${spring.kafka.codec}") EEventCodec codec,
+                      @Value("${spring.kafka.history.delta}") boolean deltaHistory) {
+        this.jsonUtil = jsonUtil;
+        this.jsonMapper = objectMapper;
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.jsonReader = withoutHistory(jsonMapper);
+        this.smileReader = withoutHistory(smileMapper);
+        this.codec = codec;
+        this.deltaHistory = deltaHistory;
+    }
+
+    public byte[] encode(Object event) {
+        if (event instanceof Event sagaEvent && sagaEvent.getEncodedSource() != null) {
+            return appendHistory(sagaEvent);
+        }
+        if (EEventCodec.SMILE.equals(codec)) {
+            return toSmile(event);
+        }
+        return jsonUtil.toJson(event).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public Event decode(byte[] data) {
+        try {
+            final Event event = isSmile(data)
+                    ? smileReader.readValue(data, 1, data.length - 1)
+                    : jsonReader.readValue(data);
+            if (!deltaHistory && event != null) {
+                event.setEncodedSource(data);
+            }
+            return event;
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isSmile(byte[] data) {
+        return data.length > 0 && data[0] == SMILE_VERSION;
+    }
+
+    private byte[] toSmile(Object event) {
+        try {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            output.write(SMILE_VERSION);
+            smileMapper.writeValue(output, event);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error encoding event to smile", e);
+        }
+    }
+
+    private byte[] appendHistory(Event event) {
+        final byte[] source = event.getEncodedSource();
+        final boolean smileTarget = EEventCodec.SMILE.equals(codec);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(source.length + 256);
+        if (smileTarget) {
+            output.write(SMILE_VERSION);
+        }
+        final ObjectNode fields = jsonMapper.valueToTree(event);
+        fields.remove(EVENT_HISTORY);
+        try (JsonParser parser = createParser(source);
+             JsonGenerator generator = (smileTarget ? smileMapper : jsonMapper).createGenerator(output)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Encoded event is not an object");
+            }
+            generator.writeStartObject();
+            boolean historyWritten = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                final JsonToken value = parser.nextToken();
+                if (EVENT_HISTORY.equals(field)) {
+                    writeHistory(parser, value, event, generator);
+                    historyWritten = true;
+                } else if (fields.has(field)) {
+                    generator.writeFieldName(field);
+                    generator.writeTree(fields.remove(field));
+                    parser.skipChildren();
+                } else {
+                    generator.writeFieldName(field);
+                    generator.copyCurrentStructure(parser);
+                }
+            }
+            for (var remaining : fields.properties()) {
+                generator.writeFieldName(remaining.getKey());
+                generator.writeTree(remaining.getValue());
+            }
+            if (!historyWritten) {
+                writeHistory(parser, JsonToken.VALUE_NULL, event, generator);
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error appending history to encoded event", e);
+        }
+        return output.toByteArray();
+    }
+
+    private JsonParser createParser(byte[] source) throws IOException {
+        return isSmile(source)
+                ? smileMapper.createParser(source, 1, source.length - 1)
+                : jsonMapper.createParser(source);
+    }
+
+    private void writeHistory(JsonParser parser, JsonToken value, Event event, JsonGenerator generator) throws IOException {
+        generator.writeArrayFieldStart(EVENT_HISTORY);
+        if (value == JsonToken.START_ARRAY) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                generator.copyCurrentStructure(parser);
+            }
+        } else {
+            parser.skipChildren();
+        }
+        if (!ObjectUtils.isEmpty(event.getEventHistory())) {
+            for (History history : event.getEventHistory()) {
+                generator.writeObject(history);
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private static ObjectReader withoutHistory(ObjectMapper mapper) {
+        return mapper.copy()
+                .addMixIn(Event.class, SkipHistory.class)
+                .readerFor(Event.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @JsonIgnoreProperties(EVENT_HISTORY)
+    private abstract static class SkipHistory {
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.stephulz.sales.payment.config.kafka;
+
+import br.com.stephulz.sales.payment.config.jackson.JacksonConfig;
+import br.com.stephulz.sales.payment.core.dto.Event;
+import br.com.stephulz.sales.payment.core.producer.KafkaProducer;
+import br.com.stephulz.sales.payment.core.producer.KafkaSender;
+import br.com.stephulz.sales.payment.core.utils.EventCodec;
+import br.com.stephulz.sales.payment.core.utils.JsonUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EmbeddedKafka
+@SpringJUnitConfig({
+        KafkaConfig.class,
+        KafkaProducer.class,
+        KafkaSender.class,
+        EventCodec.class,
+        JsonUtil.class,
+        JacksonConfig.class,
+        KafkaPartitionOrderingTest.TestConfig.class
+})
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.topic.orchestrator=orchestrator",
+        "spring.kafka.topic.payment-success=payment-success",
+        "spring.kafka.topic.payment-fail=payment-fail",
+        "spring.kafka.partitions.default=" + KafkaPartitionOrderingTest.PARTITIONS,
+        "spring.kafka.listener.concurrency=" + KafkaPartitionOrderingTest.PARTITIONS,
+        "spring.kafka.consumer.group-id=ordering-test",
+        "spring.kafka.consumer.auto-offset-reset=earliest",
+        "spring.kafka.producer.profile=DEFAULT",
+        "spring.kafka.producer.max-in-flight=1000",
+        "spring.kafka.codec=JSON",
+        "spring.kafka.history.delta=false"
+})
+class KafkaPartitionOrderingTest {
+
+    static final int PARTITIONS = 4;
+    private static final int SAGAS = 20;
+    private static final int EVENTS_PER_SAGA = 20;
+
+    @Autowired
+    private KafkaProducer producer;
+    @Autowired
+    private EventCodec eventCodec;
+    @Autowired
+    private ConcurrentKafkaListenerContainerFactory<String, byte[]> containerFactory;
+    @Value("${spring.kafka.topic.orchestrator}")
+    private String orchestratorTopic;
+
+    @Test
+    void keepsPerSagaOrderOnOnePartitionPerTransaction() throws Exception {
+        final Map<String, List<Integer>> sequences = new ConcurrentHashMap<>();
+        final Map<String, Set<Integer>> partitionsByKey = new ConcurrentHashMap<>();
+        final Map<Integer, Set<String>> threadsByPartition = new ConcurrentHashMap<>();
+        final CountDownLatch latch = new CountDownLatch(SAGAS * EVENTS_PER_SAGA);
+
+        final ConcurrentMessageListenerContainer<String, byte[]> container = containerFactory.createContainer(orchestratorTopic);
+        container.getContainerProperties().setMessageListener((AcknowledgingMessageListener<String, byte[]>) (record, ack) -> {
+            final Event event = eventCodec.decode(record.value());
+            sequences.computeIfAbsent(record.key(), key -> new ArrayList<>()).add(Integer.valueOf(event.getId()));
+            partitionsByKey.computeIfAbsent(record.key(), key -> ConcurrentHashMap.newKeySet()).add(record.partition());
+            threadsByPartition.computeIfAbsent(record.partition(), partition -> ConcurrentHashMap.newKeySet())
+                    .add(Thread.currentThread().getName());
+            ack.acknowledge();
+            latch.countDown();
+        });
+        container.start();
+        try {
+            ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+            produce();
+            assertTrue(latch.await(60, TimeUnit.SECONDS), "timed out waiting for " + orchestratorTopic);
+        } finally {
+            container.stop();
+        }
+
+        assertEquals(SAGAS, sequences.size());
+        final List<Integer> expectedSequence = IntStream.range(0, EVENTS_PER_SAGA).boxed().toList();
+        sequences.forEach((transactionId, sequence) ->
+                assertEquals(expectedSequence, sequence, "out of order for " + transactionId));
+        partitionsByKey.forEach((transactionId, partitions) -> assertEquals(Set.of(expectedPartition(transactionId)),
+                partitions, "transaction " + transactionId + " was not routed by its key"));
+        final Set<Integer> usedPartitions = new HashSet<>();
+        partitionsByKey.values().forEach(usedPartitions::addAll);
+        assertTrue(usedPartitions.size() > 1, "all transactions landed on partitions " + usedPartitions);
+        threadsByPartition.forEach((partition, threads) ->
+                assertEquals(1, threads.size(), "partition " + partition + " was consumed by " + threads));
+    }
+
+    private void produce() {
+        final List<CompletableFuture<SendResult<String, byte[]>>> deliveries = new ArrayList<>();
+        for (int sequence = 0; sequence < EVENTS_PER_SAGA; sequence++) {
+            for (int saga = 0; saga < SAGAS; saga++) {
+                deliveries.add(producer.sendEvent(Event.builder()
+                        .id(String.valueOf(sequence))
+                        .transactionId("transaction-" + saga)
+                        .orderId("order-" + saga)
+                        .source("PAYMENT_SERVICE")
+                        .build()));
+            }
+        }
+        deliveries.forEach(CompletableFuture::join);
+    }
+
+    private int expectedPartition(String key) {
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % PARTITIONS;
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        KafkaAdmin kafkaAdmin(@Value("${spring.kafka.bootstrap-servers}") String bootstrapServers) {
+            return new KafkaAdmin(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.stephulz.sales.payment.core.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyOrderedProcessorTest {
+
+    private final List<ConsumerRecord<?, ?>> deadLettered = new CopyOnWriteArrayList<>();
+    private KeyOrderedProcessor processor;
+
+    @AfterEach
+    void shutdown() {
+        processor.shutdown();
+    }
+
+    @Test
+    void shouldRetryAndAckWhenHandlerRecovers() {
+        processor = processor(false);
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountingAck ack = new CountingAck();
+
+        processor.process(record(0), ack, value -> attempts.incrementAndGet() < 3
+                ? CompletableFuture.failedFuture(new IllegalStateException("broker unavailable"))
+                : CompletableFuture.completedFuture(null));
+
+        assertEquals(3, attempts.get());
+        assertEquals(1, ack.count.get());
+        assertTrue(deadLettered.isEmpty());
+    }
+
+    @Test
+    void shouldDeadLetterAndAckPoisonRecord() {
+        processor = processor(false);
+        final AtomicInteger attempts = new AtomicInteger();
+        final CountingAck ack = new CountingAck();
+
+        processor.process(record(0), ack, value -> {
+            attempts.incrementAndGet();
+            throw new NullPointerException("undecodable payload");
+        });
+
+        assertEquals(3, attempts.get());
+        assertEquals(1, ack.count.get());
+        assertEquals(1, deadLettered.size());
+    }
+
+    @Test
+    void shouldKeepAckingAfterPoisonRecordInParallelMode() throws Exception {
+        processor = processor(true);
+        final CountingAck ack = new CountingAck();
+        final List<Long> handled = new CopyOnWriteArrayList<>();
+
+        for (int offset = 0; offset < 5; offset++) {
+            final long current = offset;
+            processor.process(record(offset), ack, value -> {
+                if (current == 1) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("poison"));
+                }
+                handled.add(current);
+                return CompletableFuture.completedFuture(null);
+            });
+        }
+
+        assertTrue(ack.all.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of(0L, 2L, 3L, 4L), handled);
+        assertEquals(1, deadLettered.size());
+    }
+
+    private KeyOrderedProcessor processor(boolean parallel) {
+        return new KeyOrderedProcessor((record, ex) -> deadLettered.add(record),
+                parallel, 16, 3, Duration.ofMillis(1), 2.0);
+    }
+
+    private ConsumerRecord<String, byte[]> record(long offset) {
+        return new ConsumerRecord<>("payment-success", 0, offset, "transaction", new byte[0]);
+    }
+
+    private static class CountingAck implements Acknowledgment {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final CountDownLatch all = new CountDownLatch(5);
+
+        @Override
+        public void acknowledge() {
+            count.incrementAndGet();
+            all.countDown();
+        }
+    }
+}
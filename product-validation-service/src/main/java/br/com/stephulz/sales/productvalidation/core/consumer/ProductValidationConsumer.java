@@ -2,10 +2,12 @@ package br.com.stephulz.sales.productvalidation.core.consumer;
 
 import br.com.stephulz.sales.productvalidation.core.dto.Event;
 import br.com.stephulz.sales.productvalidation.core.service.ProductValidationService;
-import br.com.stephulz.sales.productvalidation.core.utils.JsonUtil;
+import br.com.stephulz.sales.productvalidation.core.utils.EventCodec;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -14,25 +16,30 @@ import org.springframework.stereotype.Component;
 public class ProductValidationConsumer {
 
     private final ProductValidationService productValidationService;
-    private final JsonUtil jsonUtil;
+    private final EventCodec eventCodec;
+    private final KeyOrderedProcessor keyOrderedProcessor;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.product-validation-success}"
     )
-    public void consumeSuccessEvent(String payload) {
-        log.info("Receiving success event {} from product-validation-success topic", payload);
-        final Event event = jsonUtil.toEvent(payload);
-        productValidationService.validateExistingProducts(event);
+    public void consumeSuccessEvent(ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment) {
+        keyOrderedProcessor.process(record, acknowledgment, payload -> {
+            final Event event = eventCodec.decode(payload);
+            log.info("Receiving success event {} from product-validation-success topic", event);
+            return productValidationService.validateExistingProducts(event);
+        });
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.product-validation-fail}"
     )
-    public void consumeFailEvent(String payload) {
-        log.info("Receiving rollback event {} from product-validation-fail topic", payload);
-        final Event event = jsonUtil.toEvent(payload);
-        productValidationService.rollBackEvent(event);
+    public void consumeFailEvent(ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment) {
+        keyOrderedProcessor.process(record, acknowledgment, payload -> {
+            final Event event = eventCodec.decode(payload);
+            log.info("Receiving rollback event {} from product-validation-fail topic", event);
+            return productValidationService.rollBackEvent(event);
+        });
     }
 }
@@ -1,10 +1,13 @@
 package br.com.stephulz.sales.productvalidation.core.dto;
 
 import br.com.stephulz.sales.productvalidation.core.enums.ESagaStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.springframework.util.ObjectUtils;
 
 import java.time.LocalDateTime;
@@ -24,6 +27,10 @@ public class Event {
     private ESagaStatus status;
     private List<History> eventHistory;
     private LocalDateTime createdAt;
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private byte[] encodedSource;
 
     public void addToHistory(History history) {
         if (ObjectUtils.isEmpty(eventHistory)) {
@@ -0,0 +1,6 @@
+package br.com.stephulz.sales.productvalidation.core.enums;
+
+public enum EEventCodec {
+    JSON,
+    SMILE
+}
@@ -0,0 +1,18 @@
+package br.com.stephulz.sales.productvalidation.core.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum EProducerProfile {
+
+    DEFAULT(5, 16384, "none", true),
+    BALANCED(10, 65536, "lz4", true),
+    THROUGHPUT(25, 262144, "zstd", true);
+
+    private final int lingerMs;
+    private final int batchSize;
+    private final String compressionType;
+    private final boolean idempotence;
+}
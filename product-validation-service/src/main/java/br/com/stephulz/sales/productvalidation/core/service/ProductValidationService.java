@@ -8,13 +8,14 @@ import br.com.stephulz.sales.productvalidation.core.model.Validation;
 import br.com.stephulz.sales.productvalidation.core.producer.KafkaProducer;
 import br.com.stephulz.sales.productvalidation.core.repository.ProductRepository;
 import br.com.stephulz.sales.productvalidation.core.repository.ValidationRepository;
-import br.com.stephulz.sales.productvalidation.core.utils.JsonUtil;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ObjectUtils;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
 
 import static br.com.stephulz.sales.productvalidation.core.enums.ESagaStatus.FAIL;
 import static br.com.stephulz.sales.productvalidation.core.enums.ESagaStatus.ROLLBACK_PEDING;
@@ -26,12 +27,15 @@ import static br.com.stephulz.sales.productvalidation.core.enums.ESagaStatus.SUC
 public class ProductValidationService {
     private static final String CURRENT_SOURCE = "PRODUCT_VALIDATION_SERVICE";
 
-    private final JsonUtil jsonUtil;
     private final KafkaProducer producer;
     private final ProductRepository productRepository;
     private final ValidationRepository validationRepository;
 
-    public void validateExistingProducts(Event event) {
+    public CompletableFuture<SendResult<String, byte[]>> validateExistingProducts(Event event) {
+        if (isAlreadyValidated(event)) {
+            log.warn("Ignoring duplicated event for transaction {}, it was already validated", event.getTransactionId());
+            return CompletableFuture.completedFuture(null);
+        }
         try {
             checkCurrentValidation(event);
             createValidation(event, true);
@@ -40,17 +44,17 @@ public class ProductValidationService {
             log.error("Error trying to validate products: ", e);
             handleFailCurrentNotExecuted(event, e.getMessage());
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        return producer.sendEvent(event);
     }
 
-    private void checkCurrentValidation(Event event) {
-        validateInformedProducts(event);
-        if (Boolean.TRUE.equals(validationRepository.existsByOrderIdAndTransactionId(
+    private boolean isAlreadyValidated(Event event) {
+        return Boolean.TRUE.equals(validationRepository.existsByOrderIdAndTransactionId(
                 event.getOrderId(), event.getTransactionId()
-        ))) {
-            throw new ValidationException("There's another TransactionID for this validation");
-        }
+        ));
+    }
 
+    private void checkCurrentValidation(Event event) {
+        validateInformedProducts(event);
         event.getPayload().getProducts().forEach(product -> {
             validadeInformedProduct(product);
             validadeExistingProduct(product.getProduct().getCode());
@@ -112,12 +116,12 @@ public class ProductValidationService {
         addHistory(event, "Fail to validate products: ".concat(message));
     }
 
-    public void rollBackEvent(Event event) {
+    public CompletableFuture<SendResult<String, byte[]>> rollBackEvent(Event event) {
         changeValidationToFail(event);
         event.setStatus(FAIL);
         event.setSource(CURRENT_SOURCE);
         addHistory(event, "Rollback executed on product validation!");
-        producer.sendEvent(jsonUtil.toJson(event));
+        return producer.sendEvent(event);
     }
 
     private void changeValidationToFail(Event event) {
@@ -0,0 +1,37 @@
+package br.com.stephulz.sales.productvalidation.core.utils;
+
+import br.com.stephulz.sales.productvalidation.core.dto.Event;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.springframework.util.ObjectUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class EventHeaders {
+
+    public static final String SOURCE = "source";
+    public static final String STATUS = "status";
+    public static final String TRANSACTION_ID = "transactionId";
+    public static final String ORDER_ID = "orderId";
+
+    private EventHeaders() {
+
+    }
+
+    public static List<Header> from(Event event) {
+        final List<Header> headers = new ArrayList<>();
+        addHeader(headers, SOURCE, event.getSource());
+        addHeader(headers, STATUS, event.getStatus());
+        addHeader(headers, TRANSACTION_ID, event.getTransactionId());
+        addHeader(headers, ORDER_ID, event.getOrderId());
+        return headers;
+    }
+
+    private static void addHeader(List<Header> headers, String name, Object value) {
+        if (!ObjectUtils.isEmpty(value)) {
+            headers.add(new RecordHeader(name, value.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.stephulz.sales.productvalidation.core.utils;
+
+import br.com.stephulz.sales.productvalidation.config.jackson.JacksonConfig;
+import br.com.stephulz.sales.productvalidation.core.dto.Event;
+import br.com.stephulz.sales.productvalidation.core.dto.History;
+import br.com.stephulz.sales.productvalidation.core.enums.EEventCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static br.com.stephulz.sales.productvalidation.core.enums.ESagaStatus.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventCodecTest {
+
+    private static final String SOURCE = """
+            {"id":"1","transactionId":"tx","orderId":"order","traceId":"trace-1",
+             "source":"ORCHESTRATOR","status":"SUCCESS",
+             "eventHistory":[{"source":"ORCHESTRATOR","status":"SUCCESS","message":"Saga started!"}],
+             "metadata":{"attempt":2,"tags":["a","b"]}}
+            """;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Test
+    void shouldAppendHistoryAndKeepUnknownFieldsInJson() throws Exception {
+        final EventCodec codec = codec(EEventCodec.JSON);
+
+        final byte[] encoded = codec.encode(validated(codec.decode(SOURCE.getBytes(StandardCharsets.UTF_8))));
+
+        assertAppended(objectMapper.readTree(encoded));
+        assertRoundTrip(codec.decode(encoded));
+    }
+
+    @Test
+    void shouldAppendHistoryAndKeepUnknownFieldsInSmile() throws Exception {
+        final EventCodec codec = codec(EEventCodec.SMILE);
+        final ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+
+        final byte[] encoded = codec.encode(validated(codec.decode(smile(smileMapper, objectMapper.readTree(SOURCE)))));
+
+        assertEquals(1, encoded[0]);
+        assertAppended(smileMapper.readTree(encoded, 1, encoded.length - 1));
+        assertRoundTrip(codec.decode(encoded));
+    }
+
+    @Test
+    void shouldThrowWhenEncodedSourceIsInvalid() {
+        final EventCodec codec = codec(EEventCodec.JSON);
+        final Event event = Event.builder()
+                .id("1")
+                .encodedSource("not-json".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        assertThrows(UncheckedIOException.class, () -> codec.encode(event));
+    }
+
+    private EventCodec codec(EEventCodec format) {
+        return new EventCodec(new JsonUtil(objectMapper), objectMapper, format, false);
+    }
+
+    private Event validated(Event event) {
+        assertNull(event.getEventHistory());
+        event.setSource("PRODUCT_VALIDATION_SERVICE");
+        event.setStatus(SUCCESS);
+        event.addToHistory(History.builder()
+                .source("PRODUCT_VALIDATION_SERVICE")
+                .status(SUCCESS)
+                .message("Products validated successfully!")
+                .createdAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .build());
+        return event;
+    }
+
+    private void assertAppended(JsonNode tree) {
+        assertEquals("trace-1", tree.get("traceId").asText());
+        assertEquals(2, tree.get("metadata").get("attempt").asInt());
+        assertEquals("b", tree.get("metadata").get("tags").get(1).asText());
+        assertEquals("PRODUCT_VALIDATION_SERVICE", tree.get("source").asText());
+        assertEquals(List.of("Saga started!", "Products validated successfully!"),
+                List.of(tree.get("eventHistory").get(0).get("message").asText(),
+                        tree.get("eventHistory").get(1).get("message").asText()));
+    }
+
+    private void assertRoundTrip(Event decoded) {
+        assertEquals(Map.of("id", "1", "transactionId", "tx", "orderId", "order", "source", "PRODUCT_VALIDATION_SERVICE"),
+                Map.of("id", decoded.getId(), "transactionId", decoded.getTransactionId(),
+                        "orderId", decoded.getOrderId(), "source", decoded.getSource()));
+        assertEquals(SUCCESS, decoded.getStatus());
+    }
+
+    private byte[] smile(ObjectMapper smileMapper, JsonNode tree) throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        output.write(1);
+        smileMapper.writeValue(output, tree);
+        return output.toByteArray();
+    }
+}